@@ -0,0 +1,58 @@
+package io.github.dong4j.coco.kernel.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Description: benchmarks.jar 的入口 </p>
+ * <p>
+ * 与 {@link org.openjdk.jmh.Main} 接受相同的参数, 区别是默认把结果写为 JSON, 方便在不同版本之间对比回归:
+ *
+ * <pre>
+ * java -jar coco-kernel-benchmarks/target/benchmarks.jar                       # 全部, 写入 jmh-result.json
+ * java -jar coco-kernel-benchmarks/target/benchmarks.jar JsonUtils -rff 2.1.0.json
+ * java -jar coco-kernel-benchmarks/target/benchmarks.jar -rf text             # 改回文本格式
+ * </pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+public final class CocoBenchmarks {
+
+    /**
+     * Coco benchmarks
+     *
+     * @since 2023.1.1
+     */
+    private CocoBenchmarks() {
+    }
+
+    /**
+     * Main
+     *
+     * @param args args
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+            || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            // 未指定 -rff 时 JMH 按格式命名结果文件, 即 jmh-result.json
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.dong4j.coco.kernel.benchmarks.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.enums.DeleteEnum;
+import io.github.dong4j.coco.kernel.common.enums.EnableEnum;
+import io.github.dong4j.coco.kernel.common.enums.serialize.EntityEnumDeserializer;
+import io.github.dong4j.coco.kernel.common.util.JsonUtils;
+
+/**
+ * <p>Description: {@link EntityEnumDeserializer} 按 value / 枚举名 / json 对象三种形式反序列化的吞吐 </p>
+ * <p>
+ * 每种形式都反序列化一个带两个实体枚举字段的对象, 与只含基本类型字段的 {@link #baseline()} 对比即枚举反序列化的开销.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class EntityEnumDeserializerBenchmark {
+
+    /** By value */
+    private static final String BY_VALUE = "{\"enable\":true,\"deleted\":false}";
+    /** By name */
+    private static final String BY_NAME = "{\"enable\":\"ON\",\"deleted\":\"N\"}";
+    /** By object */
+    private static final String BY_OBJECT = "{\"enable\":{\"value\":true,\"desc\":\"可用状态\"},"
+                                            + "\"deleted\":{\"value\":false,\"desc\":\"未删除\"}}";
+    /** Plain fields */
+    private static final String PLAIN = "{\"enable\":true,\"deleted\":false}";
+
+    /**
+     * By value
+     *
+     * @return the entity
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Entity byValue() {
+        return JsonUtils.parse(BY_VALUE, Entity.class);
+    }
+
+    /**
+     * By name
+     *
+     * @return the entity
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Entity byName() {
+        return JsonUtils.parse(BY_NAME, Entity.class);
+    }
+
+    /**
+     * By object
+     *
+     * @return the entity
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Entity byObject() {
+        return JsonUtils.parse(BY_OBJECT, Entity.class);
+    }
+
+    /**
+     * Baseline
+     *
+     * @return the plain entity
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public PlainEntity baseline() {
+        return JsonUtils.parse(PLAIN, PlainEntity.class);
+    }
+
+    /**
+     * <p>Description: 带实体枚举字段的对象 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 15:40
+     * @since 2023.1.1
+     */
+    public static class Entity {
+        /** Enable */
+        public EnableEnum enable;
+        /** Deleted */
+        public DeleteEnum deleted;
+    }
+
+    /**
+     * <p>Description: 同样结构但只有基本类型字段的对象 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 15:40
+     * @since 2023.1.1
+     */
+    public static class PlainEntity {
+        /** Enable */
+        public boolean enable;
+        /** Deleted */
+        public boolean deleted;
+    }
+}
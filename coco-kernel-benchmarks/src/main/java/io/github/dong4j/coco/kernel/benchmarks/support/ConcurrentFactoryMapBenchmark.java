@@ -0,0 +1,149 @@
+package io.github.dong4j.coco.kernel.benchmarks.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.ConcurrentFactoryMap;
+
+/**
+ * <p>Description: {@link ConcurrentFactoryMap#get(Object)} 命中缓存时的读吞吐 </p>
+ * <p>
+ * 预先填充 {@code keys} 个 key, 4 个线程随机读取; 与直接读 {@link ConcurrentHashMap} 对比,
+ * 差值即 factory map 自身 (null 值包装等) 的开销.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class ConcurrentFactoryMapBenchmark {
+
+    /** Keys */
+    @Param( {"16", "10000"})
+    public int keys;
+
+    /** Factory map */
+    private ConcurrentMap<String, String> factoryMap;
+    /** Single-flight factory map */
+    private ConcurrentMap<String, String> singleFlightMap;
+    /** Bounded factory map, large enough to hold all keys */
+    private ConcurrentMap<String, String> boundedMap;
+    /** Weak factory map */
+    private ConcurrentMap<String, String> weakMap;
+    /** Plain map, the baseline */
+    private ConcurrentMap<String, String> plainMap;
+    /** Key pool */
+    private String[] keyPool;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.factoryMap = ConcurrentFactoryMap.createMap(key -> "value-" + key);
+        this.singleFlightMap = ConcurrentFactoryMap.createSingleFlightMap(key -> "value-" + key);
+        this.boundedMap = ConcurrentFactoryMap.createBoundedMap(key -> "value-" + key, this.keys);
+        this.weakMap = ConcurrentFactoryMap.createWeakMap(key -> "value-" + key);
+        this.plainMap = new ConcurrentHashMap<>();
+        this.keyPool = new String[this.keys];
+        for (int i = 0; i < this.keys; i++) {
+            String key = "key-" + i;
+            this.keyPool[i] = key;
+            this.factoryMap.get(key);
+            this.singleFlightMap.get(key);
+            this.boundedMap.get(key);
+            this.weakMap.get(key);
+            this.plainMap.put(key, "value-" + key);
+        }
+    }
+
+    /**
+     * Get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String get() {
+        return this.factoryMap.get(this.nextKey());
+    }
+
+    /**
+     * Get from the single-flight map, hits never touch the in-flight table
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String getSingleFlight() {
+        return this.singleFlightMap.get(this.nextKey());
+    }
+
+    /**
+     * Get from the bounded map, the price of the LRU bookkeeping and the counters
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String getBounded() {
+        return this.boundedMap.get(this.nextKey());
+    }
+
+    /**
+     * Get from the weak map
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String getWeak() {
+        return this.weakMap.get(this.nextKey());
+    }
+
+    /**
+     * Get from the plain map
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String baseline() {
+        return this.plainMap.get(this.nextKey());
+    }
+
+    /**
+     * Next key
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    private String nextKey() {
+        return this.keyPool[ThreadLocalRandom.current().nextInt(this.keys)];
+    }
+}
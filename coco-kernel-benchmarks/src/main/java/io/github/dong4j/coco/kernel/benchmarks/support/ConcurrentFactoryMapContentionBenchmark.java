@@ -0,0 +1,173 @@
+package io.github.dong4j.coco.kernel.benchmarks.support;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.github.dong4j.coco.kernel.common.support.ConcurrentFactoryMap;
+import io.github.dong4j.coco.kernel.common.support.NamedThreadFactory;
+
+/**
+ * <p>Description: 冷启动时 {@code threads} 个线程同时请求同一批 key, 对比默认模式与 single-flight 模式 </p>
+ * <p>
+ * 每次调用都新建一个空 map, 所有线程在栅栏处同时开始, 依次 get {@link #KEYS} 个 key, 每个值的计算消耗
+ * {@code createTokens} 个 {@link Blackhole#consumeCPU(long)} token. 结果为所有线程都拿到全部值所需的时间,
+ * {@code creates} 辅助计数为实际执行的计算次数, 按调用次数平均后 single-flight 模式恒为 {@link #KEYS},
+ * 默认模式最多为 {@code threads * KEYS}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 16:50
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class ConcurrentFactoryMapContentionBenchmark {
+
+    /** Keys requested by every thread */
+    private static final int KEYS = 16;
+
+    /** Threads */
+    @Param( {"1", "4", "16", "64"})
+    public int threads;
+
+    /** Cost of one value */
+    @Param( {"10000"})
+    public long createTokens;
+
+    /** Pool */
+    private ExecutorService pool;
+    /** Creates of the current invocation */
+    private final AtomicLong creates = new AtomicLong();
+    /** Compute value */
+    private Function<Integer, Object> computeValue;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.pool = Executors.newFixedThreadPool(this.threads, new NamedThreadFactory("bench-factory-map", true));
+        long tokens = this.createTokens;
+        this.computeValue = key -> {
+            this.creates.incrementAndGet();
+            Blackhole.consumeCPU(tokens);
+            return new Object();
+        };
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 2023.1.1
+     */
+    @TearDown
+    public void tearDown() {
+        this.pool.shutdownNow();
+    }
+
+    /**
+     * Default
+     *
+     * @param counters counters
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void createMap(Counters counters) throws Exception {
+        this.storm(ConcurrentFactoryMap.createMap(this.computeValue), counters);
+    }
+
+    /**
+     * Single flight
+     *
+     * @param counters counters
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void createSingleFlightMap(Counters counters) throws Exception {
+        this.storm(ConcurrentFactoryMap.createSingleFlightMap(this.computeValue), counters);
+    }
+
+    /**
+     * All threads get all keys of a fresh map at once
+     *
+     * @param map      map
+     * @param counters counters
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    private void storm(ConcurrentMap<Integer, Object> map, Counters counters) throws Exception {
+        this.creates.set(0);
+        CyclicBarrier start = new CyclicBarrier(this.threads);
+        Future<?>[] futures = new Future<?>[this.threads];
+        for (int t = 0; t < this.threads; t++) {
+            futures[t] = this.pool.submit(() -> {
+                start.await();
+                for (int key = 0; key < KEYS; key++) {
+                    map.get(key);
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        counters.creates += this.creates.get();
+    }
+
+    /**
+     * <p>Description: 实际执行的计算次数 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 16:50
+     * @since 2023.1.1
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        /** Creates */
+        public long creates;
+
+        /**
+         * Reset
+         *
+         * @since 2023.1.1
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.creates = 0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.dong4j.coco.kernel.benchmarks.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.FastStringWriter;
+
+/**
+ * <p>Description: 写出一段响应并转成 UTF-8 字节: 每次新建 writer 再 {@code toString().getBytes()} 与复用 writer 直接编码的对比 </p>
+ * <p>
+ * 配合 {@code -prof gc} 查看每次操作的分配量, 复用方式在稳态下只剩 {@link java.nio.ByteBuffer} 包装对象.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 18:30
+ * @since 2023.1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class FastStringWriterBenchmark {
+
+    /** 响应中的片段数 */
+    @Param( {"16", "512"})
+    public int fields;
+
+    /** Fragments */
+    private String[] fragments;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.fragments = new String[this.fields];
+        for (int i = 0; i < this.fields; i++) {
+            this.fragments[i] = i % 4 == 0 ? "\"名称-" + i + "\"," : "\"field-" + i + "\":" + i + ",";
+        }
+    }
+
+    /**
+     * New writer, toString and getBytes
+     *
+     * @return the byte [ ]
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public byte[] newWriter() {
+        FastStringWriter writer = new FastStringWriter();
+        this.writeTo(writer);
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Pooled writer, encoded into its own buffer
+     *
+     * @param blackhole blackhole
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void pooledWriter(Blackhole blackhole) {
+        try (FastStringWriter writer = FastStringWriter.acquire()) {
+            this.writeTo(writer);
+            blackhole.consume(writer.encodeUtf8());
+        }
+    }
+
+    /**
+     * Write to
+     *
+     * @param writer writer
+     * @since 2023.1.1
+     */
+    private void writeTo(FastStringWriter writer) {
+        writer.write('{');
+        for (String fragment : this.fragments) {
+            writer.write(fragment);
+        }
+        writer.write('}');
+    }
+}
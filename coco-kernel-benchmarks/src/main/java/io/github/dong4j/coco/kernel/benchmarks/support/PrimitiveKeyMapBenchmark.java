@@ -0,0 +1,167 @@
+package io.github.dong4j.coco.kernel.benchmarks.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.ConcurrentFactoryMap;
+import io.github.dong4j.coco.kernel.common.support.ConcurrentIntObjectMap;
+import io.github.dong4j.coco.kernel.common.support.ConcurrentLongObjectMap;
+
+/**
+ * <p>Description: 基本类型键的 map 与装箱键的 {@link ConcurrentHashMap} 的读吞吐对比 </p>
+ * <p>
+ * long 键模拟雪花 id (时间戳左移 22 位加序列号), 每次读取都要 {@link Long#valueOf(long)}, 超出缓存范围时会分配对象;
+ * int 键为 0 到 {@code keys} 的序号, 超过 127 时同样装箱分配. 配合 {@code -prof gc} 查看分配.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 18:10
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class PrimitiveKeyMapBenchmark {
+
+    /** Keys */
+    @Param( {"64", "100000"})
+    public int keys;
+
+    /** Long keys */
+    private long[] longKeys;
+    /** Long map */
+    private ConcurrentLongObjectMap<String> longMap;
+    /** Long factory map */
+    private ConcurrentLongObjectMap<String> longFactoryMap;
+    /** Boxed long map, the baseline */
+    private ConcurrentMap<Long, String> boxedLongMap;
+    /** Boxed long factory map */
+    private ConcurrentMap<Long, String> boxedLongFactoryMap;
+    /** Int map */
+    private ConcurrentIntObjectMap<String> intMap;
+    /** Boxed int map, the baseline */
+    private ConcurrentMap<Integer, String> boxedIntMap;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.longKeys = new long[this.keys];
+        this.longMap = new ConcurrentLongObjectMap<>();
+        this.longFactoryMap = ConcurrentLongObjectMap.createMap(key -> "value-" + key);
+        this.boxedLongMap = new ConcurrentHashMap<>();
+        this.boxedLongFactoryMap = ConcurrentFactoryMap.createMap(key -> "value-" + key);
+        this.intMap = new ConcurrentIntObjectMap<>();
+        this.boxedIntMap = new ConcurrentHashMap<>();
+        long timestamp = System.currentTimeMillis() << 22;
+        for (int i = 0; i < this.keys; i++) {
+            long key = timestamp + ((long) i << 12) + (i & 0xFFF);
+            this.longKeys[i] = key;
+            this.longMap.put(key, "value-" + key);
+            this.longFactoryMap.get(key);
+            this.boxedLongMap.put(key, "value-" + key);
+            this.boxedLongFactoryMap.get(key);
+            this.intMap.put(i, "value-" + i);
+            this.boxedIntMap.put(i, "value-" + i);
+        }
+    }
+
+    /**
+     * Long get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String longGet() {
+        return this.longMap.get(this.nextLongKey());
+    }
+
+    /**
+     * Boxed long get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String boxedLongGet() {
+        return this.boxedLongMap.get(this.nextLongKey());
+    }
+
+    /**
+     * Long factory get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String longFactoryGet() {
+        return this.longFactoryMap.get(this.nextLongKey());
+    }
+
+    /**
+     * Boxed long factory get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String boxedLongFactoryGet() {
+        return this.boxedLongFactoryMap.get(this.nextLongKey());
+    }
+
+    /**
+     * Int get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String intGet() {
+        return this.intMap.get(ThreadLocalRandom.current().nextInt(this.keys));
+    }
+
+    /**
+     * Boxed int get
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String boxedIntGet() {
+        return this.boxedIntMap.get(ThreadLocalRandom.current().nextInt(this.keys));
+    }
+
+    /**
+     * Next long key
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    private long nextLongKey() {
+        return this.longKeys[ThreadLocalRandom.current().nextInt(this.keys)];
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.dong4j.coco.kernel.benchmarks.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.SpanTimer;
+import io.github.dong4j.coco.kernel.common.support.TraceWatch;
+
+/**
+ * <p>Description: 单次计时的开销: {@link SpanTimer} 的两种用法与 {@link TraceWatch} 的对比 </p>
+ * <p>
+ * 目标是 {@link SpanTimer} 每次计时在 50ns 以内, 配合 {@code -prof gc} 确认不分配对象.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 19:40
+ * @since 2023.1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class SpanTimerBenchmark {
+
+    /** Timer */
+    private static final SpanTimer TIMER = SpanTimer.of("benchmark.span");
+
+    /** Trace watch, 不保留任务列表以免内存无限增长 */
+    private final TraceWatch traceWatch = new TraceWatch();
+
+    {
+        this.traceWatch.setKeepTaskList(false);
+    }
+
+    /**
+     * Start and stop
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public long startStop() {
+        return TIMER.stop(TIMER.start());
+    }
+
+    /**
+     * Enter and exit
+     *
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void enterExit() {
+        TIMER.enter();
+        TIMER.exit();
+    }
+
+    /**
+     * Trace watch
+     *
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void traceWatch() {
+        try (TraceWatch watch = this.traceWatch.startings("benchmark.span")) {
+            watch.getTaskCount();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.dong4j.coco.kernel.benchmarks.timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.dong4j.coco.kernel.common.support.NamedThreadFactory;
+import io.github.dong4j.coco.kernel.common.timer.HashedWheelTimer;
+import io.github.dong4j.coco.kernel.common.timer.TickWaitStrategy;
+import io.github.dong4j.coco.kernel.common.timer.Timeout;
+import io.github.dong4j.coco.kernel.common.timer.TimerTask;
+
+/**
+ * <p>Description: {@link HashedWheelTimer} 调度 / 取消 / 到期的吞吐 </p>
+ * <ul>
+ *     <li>newTimeout: 只调度, 测量生产者一侧的开销; 10ms 后到期, 避免 timeout 在测量期间无限堆积</li>
+ *     <li>newTimeoutAndCancel: 调度后立即取消, 即 RPC 超时的常见用法</li>
+ *     <li>expire: 一次调度 {@link #BATCH} 个立即到期的 timeout 并等待全部执行, 包含 worker 的处理开销</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class HashedWheelTimerBenchmark {
+
+    /** Timeouts per expire invocation */
+    private static final int BATCH = 1000;
+    /** Task */
+    private static final TimerTask NOOP = timeout -> {
+    };
+
+    /** Timer */
+    private HashedWheelTimer timer;
+    /** Expired tasks of the current expire invocation */
+    private final AtomicInteger expired = new AtomicInteger();
+    /** Task counting the expired timeouts */
+    private final TimerTask counting = timeout -> this.expired.incrementAndGet();
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        // 1ms tick 配合 PARK, 让 expire 的结果反映 worker 的处理能力而不是 sleep 的取整
+        this.timer = new HashedWheelTimer(new NamedThreadFactory("bench-timer", true),
+                                          1, TimeUnit.MILLISECONDS, 512, -1, TickWaitStrategy.PARK);
+        this.timer.start();
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 2023.1.1
+     */
+    @TearDown
+    public void tearDown() {
+        this.timer.stop();
+    }
+
+    /**
+     * New timeout
+     *
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Benchmark
+    @Threads(4)
+    public Timeout newTimeout() {
+        return this.timer.newTimeout(NOOP, 10, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * New timeout and cancel
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean newTimeoutAndCancel() {
+        return this.timer.newTimeout(NOOP, 30, TimeUnit.SECONDS).cancel();
+    }
+
+    /**
+     * Expire
+     *
+     * @since 2023.1.1
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void expire() {
+        this.expired.set(0);
+        for (int i = 0; i < BATCH; i++) {
+            this.timer.newTimeout(this.counting, 0, TimeUnit.MILLISECONDS);
+        }
+        while (this.expired.get() < BATCH) {
+            Thread.onSpinWait();
+        }
+    }
+}
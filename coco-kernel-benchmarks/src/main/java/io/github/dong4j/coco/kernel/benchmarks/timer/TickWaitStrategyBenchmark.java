@@ -0,0 +1,100 @@
+package io.github.dong4j.coco.kernel.benchmarks.timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.LatencyHistogram;
+import io.github.dong4j.coco.kernel.common.support.NamedThreadFactory;
+import io.github.dong4j.coco.kernel.common.timer.HashedWheelTimer;
+import io.github.dong4j.coco.kernel.common.timer.TickWaitStrategy;
+
+/**
+ * <p>Description: 不同 {@link TickWaitStrategy} 在 100µs - 10ms tick 下的到期抖动 </p>
+ * <p>
+ * 每次操作调度一个延迟为 1 个 tick 的 timeout 并等待其执行, SampleTime 模式给出的分位数即 "延迟 + 抖动";
+ * 每轮结束时额外打印 timer 自己统计的到期延迟 (expiry lateness) 分位数, 即去掉调度延迟后的纯抖动.
+ *
+ * <pre>
+ * java -jar coco-kernel-benchmarks/target/benchmarks.jar TickWaitStrategyBenchmark
+ * </pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 13:20
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 5)
+public class TickWaitStrategyBenchmark {
+
+    /** Tick duration in nanoseconds */
+    @Param( {"100000", "1000000", "10000000"})
+    public long tickNanos;
+
+    /** Strategy */
+    @Param( {"SLEEP", "PARK", "YIELD", "BUSY_SPIN"})
+    public TickWaitStrategy strategy;
+
+    /** Timer */
+    private HashedWheelTimer timer;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.timer = new HashedWheelTimer(new NamedThreadFactory("bench-timer", true),
+                                          this.tickNanos, TimeUnit.NANOSECONDS, 512, -1, this.strategy);
+        this.timer.start();
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 2023.1.1
+     */
+    @TearDown
+    public void tearDown() {
+        LatencyHistogram lateness = this.timer.metrics().expiryLateness();
+        System.out.printf("%n%s tick=%dµs expiry lateness µs: p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                          this.strategy, this.tickNanos / 1000,
+                          lateness.valueAtPercentile(50, TimeUnit.MICROSECONDS),
+                          lateness.valueAtPercentile(99, TimeUnit.MICROSECONDS),
+                          lateness.valueAtPercentile(99.9, TimeUnit.MICROSECONDS),
+                          lateness.max() / 1000.0);
+        this.timer.stop();
+    }
+
+    /**
+     * Expire after one tick
+     *
+     * @throws InterruptedException interrupted exception
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public void expireAfterOneTick() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        this.timer.newTimeout(timeout -> latch.countDown(), this.tickNanos, TimeUnit.NANOSECONDS);
+        latch.await();
+    }
+}
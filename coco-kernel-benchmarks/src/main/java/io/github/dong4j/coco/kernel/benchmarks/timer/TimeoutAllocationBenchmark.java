@@ -0,0 +1,107 @@
+package io.github.dong4j.coco.kernel.benchmarks.timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.NamedThreadFactory;
+import io.github.dong4j.coco.kernel.common.timer.HashedWheelTimer;
+import io.github.dong4j.coco.kernel.common.timer.TickWaitStrategy;
+import io.github.dong4j.coco.kernel.common.timer.Timeout;
+import io.github.dong4j.coco.kernel.common.timer.TimerTask;
+
+/**
+ * <p>Description: 开启 / 关闭 timeout 对象池时每个 timeout 的分配量 </p>
+ * <p>
+ * 模拟 RPC 超时的典型用法: 每次请求调度一个超时, 响应到达后取消. {@code timeoutPoolSize=0} 为未池化的基线;
+ * 需要配合 {@code -prof gc} 运行, 对比 {@code gc.alloc.rate.norm} (每次操作分配的字节数).
+ *
+ * <pre>
+ * java -jar coco-kernel-benchmarks/target/benchmarks.jar TimeoutAllocationBenchmark -prof gc
+ * </pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:10
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class TimeoutAllocationBenchmark {
+
+    /** Task, shared so the lambda itself is not counted */
+    private static final TimerTask NOOP = timeout -> {
+    };
+
+    /** Timeout pool size, 0 disables pooling */
+    @Param( {"0", "65536"})
+    public int timeoutPoolSize;
+
+    /** Timer */
+    private HashedWheelTimer timer;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.timer = new HashedWheelTimer(new NamedThreadFactory("bench-timer", true),
+                                          1, TimeUnit.MILLISECONDS, 512, -1,
+                                          Runnable::run, TickWaitStrategy.PARK, this.timeoutPoolSize);
+        this.timer.start();
+    }
+
+    /**
+     * Tear down
+     *
+     * @since 2023.1.1
+     */
+    @TearDown
+    public void tearDown() {
+        this.timer.stop();
+    }
+
+    /**
+     * Schedule a deadline and cancel it, as when the response arrives in time
+     *
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Timeout scheduleAndCancel() {
+        Timeout timeout = this.timer.newTimeout(NOOP, 30, TimeUnit.SECONDS);
+        timeout.cancel();
+        return timeout;
+    }
+
+    /**
+     * Schedule a deadline that expires right away
+     *
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Timeout scheduleAndExpire() {
+        return this.timer.newTimeout(NOOP, 0, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.dong4j.coco.kernel.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.util.DataTypeUtils;
+
+/**
+ * <p>Description: {@link DataTypeUtils#convert(Class, Object)} 常见转换的吞吐 </p>
+ * <p>
+ * 覆盖 ConfigKit 读取配置时的 String -&gt; 基本类型, 数值之间的转换以及集合 / 数组之间的转换.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class DataTypeUtilsBenchmark {
+
+    /** Int text */
+    private final String intText = "8080";
+    /** Boolean text */
+    private final String booleanText = "true";
+    /** Long value */
+    private final Object longValue = 1234567890L;
+    /** Decimal text */
+    private final String decimalText = "-128.00000";
+    /** Mixed list */
+    private final List<Object> mixedList = Arrays.asList((byte) 1, "2", 3, 4L);
+
+    /**
+     * String to int
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Integer stringToInt() {
+        return DataTypeUtils.convert(int.class, this.intText);
+    }
+
+    /**
+     * String to boolean
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Boolean stringToBoolean() {
+        return DataTypeUtils.convert(Boolean.class, this.booleanText);
+    }
+
+    /**
+     * Long to string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String longToString() {
+        return DataTypeUtils.convert(String.class, this.longValue);
+    }
+
+    /**
+     * String to big decimal
+     *
+     * @return the big decimal
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public BigDecimal stringToBigDecimal() {
+        return DataTypeUtils.convert(BigDecimal.class, this.decimalText);
+    }
+
+    /**
+     * List to set
+     *
+     * @return the set
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Set<?> listToSet() {
+        return DataTypeUtils.convert(Set.class, this.mixedList);
+    }
+
+    /**
+     * List to long array
+     *
+     * @return the long [ ]
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public long[] listToLongArray() {
+        return DataTypeUtils.convert(long[].class, this.mixedList);
+    }
+}
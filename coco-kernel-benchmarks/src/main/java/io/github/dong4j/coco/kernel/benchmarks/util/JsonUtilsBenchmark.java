@@ -0,0 +1,150 @@
+package io.github.dong4j.coco.kernel.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.util.JsonUtils;
+
+/**
+ * <p>Description: {@link JsonUtils} 序列化 / 反序列化一个典型接口报文的吞吐 </p>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class JsonUtilsBenchmark {
+
+    /** Payload */
+    private Payload payload;
+    /** Json of the payload */
+    private String json;
+    /** Json of the payload as utf-8 bytes */
+    private byte[] jsonBytes;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.payload = Payload.sample();
+        this.json = JsonUtils.toJson(this.payload);
+        this.jsonBytes = this.json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * To json
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(this.payload);
+    }
+
+    /**
+     * To json as bytes
+     *
+     * @return the byte [ ]
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public byte[] toJsonAsBytes() {
+        return JsonUtils.toJsonAsBytes(this.payload);
+    }
+
+    /**
+     * Parse
+     *
+     * @return the payload
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Payload parse() {
+        return JsonUtils.parse(this.json, Payload.class);
+    }
+
+    /**
+     * Parse bytes
+     *
+     * @return the payload
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public Payload parseBytes() {
+        return JsonUtils.parse(this.jsonBytes, Payload.class);
+    }
+
+    /**
+     * <p>Description: 基准报文 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 15:40
+     * @since 2023.1.1
+     */
+    public static class Payload {
+        /** Id */
+        public long id;
+        /** Name */
+        public String name;
+        /** Enabled */
+        public boolean enabled;
+        /** Score */
+        public double score;
+        /** Tags */
+        public List<String> tags;
+        /** Attributes */
+        public Map<String, Object> attributes;
+
+        /**
+         * Sample
+         *
+         * @return the payload
+         * @since 2023.1.1
+         */
+        static Payload sample() {
+            Payload payload = new Payload();
+            payload.id = 1234567890L;
+            payload.name = "coco-kernel benchmark payload";
+            payload.enabled = true;
+            payload.score = 98.6D;
+            payload.tags = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                payload.tags.add("tag-" + i);
+            }
+            payload.attributes = new LinkedHashMap<>();
+            payload.attributes.put("region", "cn-hangzhou");
+            payload.attributes.put("retries", 3);
+            payload.attributes.put("timeout", 3000L);
+            payload.attributes.put("trace", "0af7651916cd43dd8448eb211c80319c");
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.dong4j.coco.kernel.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.util.JsonUtils;
+
+/**
+ * <p>Description: 写出一次响应: 先 {@link JsonUtils#toJsonAsBytes(Object)} 再写入目标, 与 {@code JsonUtils.writeTo} 直接写入目标的对比 </p>
+ * <p>
+ * 目标 (输出流 / ByteBuffer / channel) 在迭代间复用, 只统计序列化本身的分配. 配合 {@code -prof gc} 查看
+ * {@code gc.alloc.rate.norm}, 即每次响应分配的字节数; 直接写入的方式省去了与报文等长的中间数组.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 19:20
+ * @since 2023.1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class JsonWriteToBenchmark {
+
+    /** Payload */
+    private JsonUtilsBenchmark.Payload payload;
+    /** Reused output stream */
+    private ByteArrayOutputStream out;
+    /** Reused buffer */
+    private ByteBuffer buffer;
+    /** Discarding channel */
+    private DiscardChannel channel;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.payload = JsonUtilsBenchmark.Payload.sample();
+        this.out = new ByteArrayOutputStream(4096);
+        this.buffer = ByteBuffer.allocate(4096);
+        this.channel = new DiscardChannel();
+    }
+
+    /**
+     * To json as bytes, then write to the stream
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public int streamViaBytes() {
+        this.out.reset();
+        byte[] bytes = JsonUtils.toJsonAsBytes(this.payload);
+        this.out.write(bytes, 0, bytes.length);
+        return this.out.size();
+    }
+
+    /**
+     * Write to the stream directly
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public int streamWriteTo() {
+        this.out.reset();
+        JsonUtils.writeTo(this.out, this.payload);
+        return this.out.size();
+    }
+
+    /**
+     * To json as bytes, then put into the buffer
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public int bufferViaBytes() {
+        this.buffer.clear();
+        this.buffer.put(JsonUtils.toJsonAsBytes(this.payload));
+        return this.buffer.position();
+    }
+
+    /**
+     * Write to the buffer directly
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public int bufferWriteTo() {
+        this.buffer.clear();
+        return JsonUtils.writeTo(this.buffer, this.payload);
+    }
+
+    /**
+     * To json as bytes, then wrap and write to the channel
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public long channelViaBytes() {
+        this.channel.write(ByteBuffer.wrap(JsonUtils.toJsonAsBytes(this.payload)));
+        return this.channel.written;
+    }
+
+    /**
+     * Write to the channel directly
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public long channelWriteTo() {
+        JsonUtils.writeTo(this.channel, this.payload);
+        return this.channel.written;
+    }
+
+    /**
+     * <p>Description: 丢弃写入内容, 只累计字节数的 channel </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 19:20
+     * @since 2023.1.1
+     */
+    private static final class DiscardChannel implements WritableByteChannel {
+        /** Written */
+        private long written;
+
+        /**
+         * Write
+         *
+         * @param src src
+         * @return the int
+         * @since 2023.1.1
+         */
+        @Override
+        public int write(ByteBuffer src) {
+            int remaining = src.remaining();
+            src.position(src.limit());
+            this.written += remaining;
+            return remaining;
+        }
+
+        /**
+         * Is open
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        /**
+         * Close
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.dong4j.coco.kernel.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.util.LinkedCaseInsensitiveMap;
+
+/**
+ * <p>Description: {@link LinkedCaseInsensitiveMap} 查找的吞吐 </p>
+ * <p>
+ * key 模拟 HTTP header, 分别以原始大小写, 全小写和不存在的 key 查找; 每次查找都要把 key 转为小写,
+ * 这部分开销即与 {@link java.util.HashMap} 的差距.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class LinkedCaseInsensitiveMapBenchmark {
+
+    /** Header names */
+    private static final String[] HEADERS = {
+        "Content-Type", "Content-Length", "Accept", "Accept-Encoding", "Authorization",
+        "User-Agent", "X-Request-Id", "X-Trace-Id", "Cache-Control", "Connection"
+    };
+
+    /** Entries */
+    @Param( {"10", "100"})
+    public int entries;
+
+    /** Map */
+    private LinkedCaseInsensitiveMap<String> map;
+    /** Keys in their original case */
+    private String[] keys;
+    /** Keys in lower case */
+    private String[] lowerCaseKeys;
+
+    /**
+     * Sets up
+     *
+     * @since 2023.1.1
+     */
+    @Setup
+    public void setUp() {
+        this.map = new LinkedCaseInsensitiveMap<>(this.entries, Locale.ENGLISH);
+        this.keys = new String[this.entries];
+        this.lowerCaseKeys = new String[this.entries];
+        for (int i = 0; i < this.entries; i++) {
+            String key = HEADERS[i % HEADERS.length] + (i < HEADERS.length ? "" : "-" + i);
+            this.keys[i] = key;
+            this.lowerCaseKeys[i] = key.toLowerCase(Locale.ENGLISH);
+            this.map.put(key, "value-" + i);
+        }
+    }
+
+    /**
+     * Get with the original case
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String get() {
+        return this.map.get(this.keys[this.nextIndex()]);
+    }
+
+    /**
+     * Get with another case
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String getLowerCase() {
+        return this.map.get(this.lowerCaseKeys[this.nextIndex()]);
+    }
+
+    /**
+     * Contains key that is missing
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public boolean containsMissingKey() {
+        return this.map.containsKey("X-Missing-Header");
+    }
+
+    /**
+     * Next index
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    private int nextIndex() {
+        return ThreadLocalRandom.current().nextInt(this.entries);
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.dong4j.coco.kernel.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.annotation.BusinessLevel;
+import io.github.dong4j.coco.kernel.common.annotation.ModelSerial;
+import io.github.dong4j.coco.kernel.common.annotation.SystemLevel;
+import io.github.dong4j.coco.kernel.common.api.IResultCode;
+import io.github.dong4j.coco.kernel.common.util.ResultCodeUtils;
+
+/**
+ * <p>Description: {@link ResultCodeUtils#generateCode(IResultCode)} 的吞吐 </p>
+ * <p>
+ * 每个失败的响应都会生成一次错误编码, 第一次调用后枚举字段已缓存, 这里测量的是缓存命中后的注解解析与字符串拼接.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 15:40
+ * @since 2023.1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class ResultCodeUtilsBenchmark {
+
+    /**
+     * System level
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String systemLevel() {
+        return ResultCodeUtils.generateCode(BenchmarkCode.SYSTEM_ERROR);
+    }
+
+    /**
+     * Business level
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String businessLevel() {
+        return ResultCodeUtils.generateCode(BenchmarkCode.PARAM_ERROR);
+    }
+
+    /**
+     * Without level annotation
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Benchmark
+    public String noLevel() {
+        return ResultCodeUtils.generateCode(BenchmarkCode.UNKNOWN);
+    }
+
+    /**
+     * <p>Description: 基准用的错误码 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 15:40
+     * @since 2023.1.1
+     */
+    @ModelSerial("bench")
+    public enum BenchmarkCode implements IResultCode {
+        /** System error */
+        @SystemLevel
+        SYSTEM_ERROR(5000, "系统错误"),
+        /** Param error */
+        @BusinessLevel
+        PARAM_ERROR(4000, "参数错误"),
+        /** Unknown */
+        UNKNOWN(9999, "未知错误");
+
+        /** Code */
+        private final Integer code;
+        /** Message */
+        private final String message;
+
+        /**
+         * Benchmark code
+         *
+         * @param code    code
+         * @param message message
+         * @since 2023.1.1
+         */
+        BenchmarkCode(Integer code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+
+        /**
+         * Gets code *
+         *
+         * @return the code
+         * @since 2023.1.1
+         */
+        @Override
+        public Integer getCode() {
+            return this.code;
+        }
+
+        /**
+         * Gets message *
+         *
+         * @return the message
+         * @since 2023.1.1
+         */
+        @Override
+        public String getMessage() {
+            return this.message;
+        }
+    }
+}
@@ -15,7 +15,7 @@ import java.util.ResourceBundle;
 import java.util.function.Supplier;
 
 import io.github.dong4j.coco.kernel.common.support.ConcurrentFactoryMap;
-import io.github.dong4j.coco.kernel.common.support.ConcurrentSoftValueHashMap;
+import io.github.dong4j.coco.kernel.common.support.MemoryAwareCache;
 import io.github.dong4j.coco.kernel.common.support.SoftReference;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,9 +30,14 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public abstract class AbstractBundle {
-    /** ourCache */
+    /** 每个 ClassLoader 的资源包缓存的内存预算 */
+    private static final long BUNDLE_CACHE_BYTES = 8L * 1024 * 1024;
+    /** ourCache, 按内存预算与堆使用率逐步淘汰, 不会像软引用那样在堆接近满时一次性清空 */
     private static final Map<ClassLoader, Map<String, ResourceBundle>> CACHE =
-        ConcurrentFactoryMap.createWeakMap(k -> new ConcurrentSoftValueHashMap<>());
+        ConcurrentFactoryMap.createWeakMap(k -> new MemoryAwareCache<>(BUNDLE_CACHE_BYTES,
+                                                                      MemoryAwareCache.DEFAULT_HEAP_USAGE_THRESHOLD,
+                                                                      MemoryAwareCache.DEFAULT_EVICTION_STEP,
+                                                                      (path, bundle) -> estimateSize(bundle)));
     /** My path to bundle */
     @NonNls
     private final String myPathToBundle;
@@ -144,6 +149,26 @@ public abstract class AbstractBundle {
         return result;
     }
 
+    /**
+     * 资源包的近似占用: 所有键值 (含父资源包) 的估算之和
+     *
+     * @param bundle bundle
+     * @return the long
+     * @since 2023.1.1
+     */
+    private static long estimateSize(@NotNull ResourceBundle bundle) {
+        long size = 0L;
+        for (String key : bundle.keySet()) {
+            size += MemoryAwareCache.estimateSize(key);
+            try {
+                size += MemoryAwareCache.estimateSize(bundle.getObject(key));
+            } catch (MissingResourceException ignored) {
+                // keySet 与 getObject 之间资源包不会变化, 这里只是防御
+            }
+        }
+        return size;
+    }
+
     /**
      * Find bundle
      *
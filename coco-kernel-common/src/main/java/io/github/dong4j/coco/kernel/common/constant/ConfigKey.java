@@ -39,6 +39,8 @@ public final class ConfigKey {
     public static final String JSON_DATE_FORMAT = "coco.rest.json.date-formate";
     /** jackson null 处理配置 */
     public static final String JSON_SERIALIZE_NULL = "coco.rest.json.default-property-inclusion";
+    /** 为 true 时忽略编译期生成的 @JsonTypeName 索引, 始终扫描 classpath 注册子类型 */
+    public static final String JSON_SUBTYPES_SCAN = "coco.rest.json.subtypes-scan";
     /** MYBATIS_ENABLE_ILLEGAL_SQL_INTERCEPTOR */
     public static final String MYBATIS_ENABLE_ILLEGAL_SQL_INTERCEPTOR = "coco.mybatis.enable-illegal-sql-interceptor";
     /** MYBATIS_ENABLE_SQL_EXPLAIN_INTERCEPTOR */
@@ -0,0 +1,213 @@
+package io.github.dong4j.coco.kernel.common.context;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>Description: {@link GlobalContext} 的类型化键 </p>
+ * <p>
+ * 每个键在创建时分配一个固定的槽位下标, 上下文中的值按下标保存在一个小数组里, 读写不需要哈希查找也不分配对象.
+ * 键是全局唯一的, 同名的键只会创建一次, 建议保存在静态常量中:
+ * <pre>{@code
+ * public static final ContextKey<Long> TENANT_ID = ContextKey.of("tenantId", Long.class);
+ *
+ * GlobalContext.set(TENANT_ID, 1L);
+ * Long tenantId = GlobalContext.get(TENANT_ID);
+ * }</pre>
+ * 字符串形式的 {@link GlobalContext#put(String, Object)} 等方法按名字使用同一个键; 没有声明过的名字不会创建键,
+ * 只保存在每个线程的上下文中, 因此键只能通过 {@link #of(String, Class)} 创建.
+ *
+ * @param <T> parameter
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 20:30
+ * @since 2023.1.1
+ */
+public final class ContextKey<T> {
+    /** 最多可以创建的键数量 */
+    public static final int MAX_KEYS = 1024;
+    /** 按名字登记的键 */
+    private static final Map<String, ContextKey<?>> KEYS = new ConcurrentHashMap<>();
+    /** 按槽位下标登记的键 */
+    private static final AtomicReferenceArray<ContextKey<?>> KEYS_BY_INDEX = new AtomicReferenceArray<>(MAX_KEYS);
+    /** 已分配的槽位数量 */
+    private static volatile int keyCount;
+
+    /** Name */
+    private final String name;
+    /** Type */
+    private final Class<T> type;
+    /** Index */
+    private final int index;
+
+    /**
+     * Context key
+     *
+     * @param name  name
+     * @param type  type
+     * @param index index
+     * @since 2023.1.1
+     */
+    private ContextKey(String name, Class<T> type, int index) {
+        this.name = name;
+        this.type = type;
+        this.index = index;
+    }
+
+    /**
+     * 获取或创建键, 同名的键已存在且类型不同时抛出 {@link IllegalArgumentException}
+     *
+     * @param <T>  parameter
+     * @param name name
+     * @param type type
+     * @return the context key
+     * @since 2023.1.1
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> ContextKey<T> of(@NotNull String name, @NotNull Class<T> type) {
+        ContextKey<?> key = KEYS.get(name);
+        if (key == null) {
+            key = register(name, type);
+        }
+        if (key.type != type) {
+            throw new IllegalArgumentException("ContextKey '" + name + "' already exists with type " + key.type.getName());
+        }
+        return (ContextKey<T>) key;
+    }
+
+    /**
+     * 按名字查找已创建的键
+     *
+     * @param name name
+     * @return the context key
+     * @since 2023.1.1
+     */
+    public static @Nullable ContextKey<?> find(@NotNull String name) {
+        return KEYS.get(name);
+    }
+
+    /**
+     * 按槽位下标查找键
+     *
+     * @param index index
+     * @return the context key
+     * @since 2023.1.1
+     */
+    static @Nullable ContextKey<?> byIndex(int index) {
+        return KEYS_BY_INDEX.get(index);
+    }
+
+    /**
+     * 已分配的槽位数量
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    static int keyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Register
+     *
+     * @param name name
+     * @param type type
+     * @return the context key
+     * @since 2023.1.1
+     */
+    private static synchronized ContextKey<?> register(String name, Class<?> type) {
+        ContextKey<?> key = KEYS.get(name);
+        if (key != null) {
+            return key;
+        }
+        int index = keyCount;
+        if (index >= MAX_KEYS) {
+            throw new IllegalStateException("Too many ContextKey instances (" + MAX_KEYS + "), keys must be constants");
+        }
+        key = new ContextKey<>(name, type, index);
+        KEYS_BY_INDEX.set(index, key);
+        KEYS.put(name, key);
+        keyCount = index + 1;
+        return key;
+    }
+
+    /**
+     * 当前线程上下文中的值
+     *
+     * @return the t
+     * @since 2023.1.1
+     */
+    public @Nullable T get() {
+        return GlobalContext.get(this);
+    }
+
+    /**
+     * 设置当前线程上下文中的值, null 表示移除
+     *
+     * @param value value
+     * @since 2023.1.1
+     */
+    public void set(@Nullable T value) {
+        GlobalContext.set(this, value);
+    }
+
+    /**
+     * 移除当前线程上下文中的值
+     *
+     * @since 2023.1.1
+     */
+    public void remove() {
+        GlobalContext.remove(this);
+    }
+
+    /**
+     * Name
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Type
+     *
+     * @return the class
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public Class<T> type() {
+        return this.type;
+    }
+
+    /**
+     * 槽位下标
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "ContextKey{" + this.name + ": " + this.type.getSimpleName() + '}';
+    }
+}
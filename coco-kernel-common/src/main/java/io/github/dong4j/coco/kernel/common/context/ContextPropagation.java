@@ -0,0 +1,463 @@
+package io.github.dong4j.coco.kernel.common.context;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>Description: 不依赖 TTL agent 的上下文传递 </p>
+ * <p>
+ * 包装时通过 {@link KernelContext#capture()} 捕获提交线程的上下文 (只是引用当前的不可变快照), 执行时安装, 结束后还原:
+ * <ul>
+ *     <li>{@link #wrap(Runnable)}, {@link #wrap(Callable)} 等包装单个任务, {@link #wrap(Function)} 等用于
+ *     {@link CompletableFuture} 的回调;</li>
+ *     <li>{@link #wrap(Executor)}, {@link #wrap(ExecutorService)} 包装线程池, 之后提交的任务都会传递上下文;</li>
+ *     <li>{@link #supplyAsync(Supplier, Executor)}, {@link #runAsync(Runnable, Executor)} 对应
+ *     {@link CompletableFuture} 的同名方法.</li>
+ * </ul>
+ * 运行在提供 {@code java.lang.ScopedValue} 的 JVM 上时 (Java 21 起), {@link #runScoped(Runnable)} 把快照绑定到 ScopedValue,
+ * 作用域内 {@code StructuredTaskScope} 派生的子线程无需包装即可通过 {@link KernelContext#capture()} 与
+ * {@link GlobalContext#get(String)} 读取. ScopedValue 通过反射访问, 编译目标仍然是 Java 17.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 20:00
+ * @since 2023.1.1
+ */
+public final class ContextPropagation {
+    /** ScopedValue 的访问方法, 不支持时为 null */
+    private static final ScopedValues SCOPED_VALUES = ScopedValues.lookup();
+
+    /**
+     * Context propagation
+     *
+     * @since 2023.1.1
+     */
+    private ContextPropagation() {
+    }
+
+    /**
+     * Wrap
+     *
+     * @param runnable runnable
+     * @return the runnable
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static Runnable wrap(@NotNull Runnable runnable) {
+        KernelContext snapshot = KernelContext.capture();
+        return () -> snapshot.run(runnable);
+    }
+
+    /**
+     * Wrap
+     *
+     * @param <T>      parameter
+     * @param callable callable
+     * @return the callable
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T> Callable<T> wrap(@NotNull Callable<T> callable) {
+        KernelContext snapshot = KernelContext.capture();
+        return () -> snapshot.call(callable);
+    }
+
+    /**
+     * Wrap
+     *
+     * @param <T>      parameter
+     * @param supplier supplier
+     * @return the supplier
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T> Supplier<T> wrap(@NotNull Supplier<T> supplier) {
+        KernelContext snapshot = KernelContext.capture();
+        return () -> {
+            try (KernelContext.Scope ignored = snapshot.install()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Wrap, 用于 {@link CompletableFuture#thenApplyAsync(Function)} 等回调
+     *
+     * @param <T>      parameter
+     * @param <R>      parameter
+     * @param function function
+     * @return the function
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T, R> Function<T, R> wrap(@NotNull Function<T, R> function) {
+        KernelContext snapshot = KernelContext.capture();
+        return value -> {
+            try (KernelContext.Scope ignored = snapshot.install()) {
+                return function.apply(value);
+            }
+        };
+    }
+
+    /**
+     * Wrap, 用于 {@link CompletableFuture#thenAcceptAsync(Consumer)} 等回调
+     *
+     * @param <T>      parameter
+     * @param consumer consumer
+     * @return the consumer
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T> Consumer<T> wrap(@NotNull Consumer<T> consumer) {
+        KernelContext snapshot = KernelContext.capture();
+        return value -> {
+            try (KernelContext.Scope ignored = snapshot.install()) {
+                consumer.accept(value);
+            }
+        };
+    }
+
+    /**
+     * Wrap, 用于 {@link CompletableFuture#whenCompleteAsync(BiConsumer)} 等回调
+     *
+     * @param <T>      parameter
+     * @param <U>      parameter
+     * @param consumer consumer
+     * @return the bi consumer
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T, U> BiConsumer<T, U> wrap(@NotNull BiConsumer<T, U> consumer) {
+        KernelContext snapshot = KernelContext.capture();
+        return (value, throwable) -> {
+            try (KernelContext.Scope ignored = snapshot.install()) {
+                consumer.accept(value, throwable);
+            }
+        };
+    }
+
+    /**
+     * 包装线程池, 每次 {@link Executor#execute(Runnable)} 时捕获上下文
+     *
+     * @param executor executor
+     * @return the executor
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static Executor wrap(@NotNull Executor executor) {
+        if (executor instanceof PropagatingExecutorService) {
+            return executor;
+        }
+        if (executor instanceof ExecutorService) {
+            return wrap((ExecutorService) executor);
+        }
+        return command -> executor.execute(wrap(command));
+    }
+
+    /**
+     * 包装线程池, {@code execute}, {@code submit}, {@code invokeAll} 与 {@code invokeAny} 提交的任务都会传递上下文
+     *
+     * @param executor executor
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static ExecutorService wrap(@NotNull ExecutorService executor) {
+        if (executor instanceof PropagatingExecutorService) {
+            return executor;
+        }
+        return new PropagatingExecutorService(executor);
+    }
+
+    /**
+     * 与 {@link CompletableFuture#supplyAsync(Supplier, Executor)} 相同, 并传递当前上下文
+     *
+     * @param <T>      parameter
+     * @param supplier supplier
+     * @param executor executor
+     * @return the completable future
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static <T> CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier, @NotNull Executor executor) {
+        return CompletableFuture.supplyAsync(wrap(supplier), executor);
+    }
+
+    /**
+     * 与 {@link CompletableFuture#runAsync(Runnable, Executor)} 相同, 并传递当前上下文
+     *
+     * @param runnable runnable
+     * @param executor executor
+     * @return the completable future
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static CompletableFuture<Void> runAsync(@NotNull Runnable runnable, @NotNull Executor executor) {
+        return CompletableFuture.runAsync(wrap(runnable), executor);
+    }
+
+    /**
+     * 当前 JVM 是否提供 ScopedValue
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public static boolean isScopedValueSupported() {
+        return SCOPED_VALUES != null;
+    }
+
+    /**
+     * 把当前上下文绑定到 ScopedValue 后执行, 不支持 ScopedValue 时在当前线程直接执行
+     *
+     * @param runnable runnable
+     * @since 2023.1.1
+     */
+    public static void runScoped(@NotNull Runnable runnable) {
+        if (SCOPED_VALUES == null) {
+            runnable.run();
+        } else {
+            SCOPED_VALUES.run(KernelContext.capture(), runnable);
+        }
+    }
+
+    /**
+     * 把当前上下文绑定到 ScopedValue 后执行, 不支持 ScopedValue 时在当前线程直接执行
+     *
+     * @param <T>      parameter
+     * @param callable callable
+     * @return the t
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T callScoped(@NotNull Callable<T> callable) throws Exception {
+        if (SCOPED_VALUES == null) {
+            return callable.call();
+        }
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        SCOPED_VALUES.run(KernelContext.capture(), () -> {
+            try {
+                result[0] = callable.call();
+            } catch (Exception e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (T) result[0];
+    }
+
+    /**
+     * 当前作用域绑定的快照, 未绑定或不支持 ScopedValue 时返回 null
+     *
+     * @return the context snapshot
+     * @since 2023.1.1
+     */
+    public static @Nullable KernelContext scoped() {
+        return SCOPED_VALUES == null ? null : SCOPED_VALUES.get();
+    }
+
+    /**
+     * <p>Description: 提交任务时传递上下文的线程池包装 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 20:00
+     * @since 2023.1.1
+     */
+    private static final class PropagatingExecutorService extends AbstractExecutorService {
+        /** Delegate */
+        private final ExecutorService delegate;
+
+        /**
+         * Propagating executor service
+         *
+         * @param delegate delegate
+         * @since 2023.1.1
+         */
+        private PropagatingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Execute
+         *
+         * @param command command
+         * @since 2023.1.1
+         */
+        @Override
+        public void execute(@NotNull Runnable command) {
+            this.delegate.execute(wrap(command));
+        }
+
+        /**
+         * Shutdown
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void shutdown() {
+            this.delegate.shutdown();
+        }
+
+        /**
+         * Shutdown now
+         *
+         * @return the list
+         * @since 2023.1.1
+         */
+        @NotNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            return this.delegate.shutdownNow();
+        }
+
+        /**
+         * Is shutdown
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isShutdown() {
+            return this.delegate.isShutdown();
+        }
+
+        /**
+         * Is terminated
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isTerminated() {
+            return this.delegate.isTerminated();
+        }
+
+        /**
+         * Await termination
+         *
+         * @param timeout timeout
+         * @param unit    unit
+         * @return the boolean
+         * @throws InterruptedException interrupted exception
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+            return this.delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * <p>Description: 通过反射访问的 {@code java.lang.ScopedValue} </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 20:00
+     * @since 2023.1.1
+     */
+    private static final class ScopedValues {
+        /** ScopedValue 实例 */
+        private final Object scopedValue;
+        /** ScopedValue.where(ScopedValue, Object) */
+        private final MethodHandle where;
+        /** Carrier.run(Runnable) */
+        private final MethodHandle run;
+        /** ScopedValue.isBound() */
+        private final MethodHandle isBound;
+        /** ScopedValue.get() */
+        private final MethodHandle get;
+
+        /**
+         * Scoped values
+         *
+         * @param scopedValue scoped value
+         * @param where       where
+         * @param run         run
+         * @param isBound     is bound
+         * @param get         get
+         * @since 2023.1.1
+         */
+        private ScopedValues(Object scopedValue, MethodHandle where, MethodHandle run, MethodHandle isBound, MethodHandle get) {
+            this.scopedValue = scopedValue;
+            this.where = where;
+            this.run = run;
+            this.isBound = isBound;
+            this.get = get;
+        }
+
+        /**
+         * 查找 ScopedValue 的方法, 不支持时返回 null
+         *
+         * @return the scoped values
+         * @since 2023.1.1
+         */
+        private static @Nullable ScopedValues lookup() {
+            try {
+                Class<?> type = Class.forName("java.lang.ScopedValue");
+                Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Object scopedValue = lookup.findStatic(type, "newInstance", MethodType.methodType(type)).invoke();
+                return new ScopedValues(scopedValue,
+                                        lookup.findStatic(type, "where", MethodType.methodType(carrier, type, Object.class)),
+                                        lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class)),
+                                        lookup.findVirtual(type, "isBound", MethodType.methodType(boolean.class)),
+                                        lookup.findVirtual(type, "get", MethodType.methodType(Object.class)));
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+
+        /**
+         * 绑定快照后执行
+         *
+         * @param snapshot snapshot
+         * @param runnable runnable
+         * @since 2023.1.1
+         */
+        private void run(KernelContext snapshot, Runnable runnable) {
+            try {
+                this.run.invoke(this.where.invoke(this.scopedValue, snapshot), runnable);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 当前绑定的快照
+         *
+         * @return the context snapshot
+         * @since 2023.1.1
+         */
+        private @Nullable KernelContext get() {
+            try {
+                return (boolean) this.isBound.invoke(this.scopedValue) ? (KernelContext) this.get.invoke(this.scopedValue) : null;
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+    }
+}
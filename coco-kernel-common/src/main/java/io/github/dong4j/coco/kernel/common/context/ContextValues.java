@@ -0,0 +1,250 @@
+package io.github.dong4j.coco.kernel.common.context;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>Description: {@link GlobalContext} 每个线程的值, 按 {@link ContextKey#index()} 保存在数组中 </p>
+ * <p>
+ * 只属于当前线程时原地修改; 被快照捕获或传递给其他线程后标记为共享, 之后不再修改,
+ * 所属线程的下一次写入会先复制一份. 因此稳态下的读写都不分配对象, 捕获只是引用.
+ * 字符串 API 使用的名字没有声明为 {@link ContextKey} (或值与声明的类型不符) 时, 保存在按名字索引的小 map 中,
+ * 不会占用全局的槽位. 同一个名字的值只会出现在槽位与 map 之一中.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 20:30
+ * @since 2023.1.1
+ */
+final class ContextValues {
+    /** 初始槽位数量 */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Slots */
+    private final Object[] slots;
+    /** 非 null 的槽位数量 */
+    private int size;
+    /** 没有声明为 {@link ContextKey} 的名字对应的值, 没有时为 null */
+    private @Nullable Map<String, Object> named;
+    /** 是否已共享, 只由所属线程在发布前写入 */
+    private boolean shared;
+
+    /**
+     * Context values
+     *
+     * @param slots slots
+     * @param size  size
+     * @param named named
+     * @since 2023.1.1
+     */
+    private ContextValues(Object[] slots, int size, @Nullable Map<String, Object> named) {
+        this.slots = slots;
+        this.size = size;
+        this.named = named;
+    }
+
+    /**
+     * 按当前已创建的键数量分配槽位
+     *
+     * @return the context values
+     * @since 2023.1.1
+     */
+    static ContextValues create() {
+        return new ContextValues(new Object[Math.max(INITIAL_CAPACITY, ContextKey.keyCount())], 0, null);
+    }
+
+    /**
+     * Get
+     *
+     * @param index index
+     * @return the object
+     * @since 2023.1.1
+     */
+    private @Nullable Object get(int index) {
+        return index < this.slots.length ? this.slots[index] : null;
+    }
+
+    /**
+     * 键对应的值; 键声明前按名字写入且类型相符的值同样返回
+     *
+     * @param <T> parameter
+     * @param key key
+     * @return the t
+     * @since 2023.1.1
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable T get(ContextKey<T> key) {
+        Object value = this.get(key.index());
+        if (value == null && this.named != null) {
+            value = this.named.get(key.name());
+            return key.type().isInstance(value) ? (T) value : null;
+        }
+        return (T) value;
+    }
+
+    /**
+     * 按名字取值, 先取已声明键的槽位, 再取按名字保存的值
+     *
+     * @param name name
+     * @return the object
+     * @since 2023.1.1
+     */
+    @Nullable Object get(String name) {
+        ContextKey<?> key = ContextKey.find(name);
+        Object value = key == null ? null : this.get(key.index());
+        return value != null || this.named == null ? value : this.named.get(name);
+    }
+
+    /**
+     * 写入键对应的值, 需要复制或扩容时返回新的实例, 否则返回自身
+     *
+     * @param key   key
+     * @param value value, null 表示移除
+     * @return the context values
+     * @since 2023.1.1
+     */
+    ContextValues with(ContextKey<?> key, @Nullable Object value) {
+        ContextValues target = this.with(key.index(), value);
+        return target.named == null ? target : target.withNamed(key.name(), null);
+    }
+
+    /**
+     * 按名字写入: 名字已声明为键且值的类型相符时写入槽位, 否则按名字保存, 不会创建新的键
+     *
+     * @param name  name
+     * @param value value, null 表示移除
+     * @return the context values
+     * @since 2023.1.1
+     */
+    ContextValues with(String name, @Nullable Object value) {
+        ContextKey<?> key = ContextKey.find(name);
+        if (key == null) {
+            return this.withNamed(name, value);
+        }
+        if (value == null || key.type().isInstance(value)) {
+            return this.with(key, value);
+        }
+        return this.with(key.index(), null).withNamed(name, value);
+    }
+
+    /**
+     * 写入槽位, 需要复制或扩容时返回新的实例, 否则返回自身
+     *
+     * @param index index
+     * @param value value, null 表示移除
+     * @return the context values
+     * @since 2023.1.1
+     */
+    private ContextValues with(int index, @Nullable Object value) {
+        if (this.get(index) == value) {
+            return this;
+        }
+        ContextValues target = this.writable(index + 1);
+        Object previous = target.slots[index];
+        target.slots[index] = value;
+        if (previous == null) {
+            target.size++;
+        } else if (value == null) {
+            target.size--;
+        }
+        return target;
+    }
+
+    /**
+     * 写入按名字保存的值
+     *
+     * @param name  name
+     * @param value value, null 表示移除
+     * @return the context values
+     * @since 2023.1.1
+     */
+    private ContextValues withNamed(String name, @Nullable Object value) {
+        Object previous = this.named == null ? null : this.named.get(name);
+        if (previous == value) {
+            return this;
+        }
+        ContextValues target = this.writable(0);
+        if (value == null) {
+            target.named.remove(name);
+        } else {
+            if (target.named == null) {
+                target.named = new HashMap<>(4);
+            }
+            target.named.put(name, value);
+        }
+        return target;
+    }
+
+    /**
+     * 可以原地修改的实例: 已共享或槽位不足 length 时复制一份
+     *
+     * @param length length
+     * @return the context values
+     * @since 2023.1.1
+     */
+    private ContextValues writable(int length) {
+        if (!this.shared && length <= this.slots.length) {
+            return this;
+        }
+        int newLength = length <= this.slots.length ? this.slots.length : Math.max(length, ContextKey.keyCount());
+        return new ContextValues(Arrays.copyOf(this.slots, newLength), this.size,
+                                 this.named == null ? null : new HashMap<>(this.named));
+    }
+
+    /**
+     * 标记为共享, 之后不再原地修改
+     *
+     * @return the context values
+     * @since 2023.1.1
+     */
+    ContextValues share() {
+        this.shared = true;
+        return this;
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    boolean isEmpty() {
+        return this.size == 0 && (this.named == null || this.named.isEmpty());
+    }
+
+    /**
+     * 按键名转换为 map
+     *
+     * @return the map
+     * @since 2023.1.1
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(this.size * 2);
+        for (int i = 0; i < this.slots.length; i++) {
+            if (this.slots[i] != null) {
+                ContextKey<?> key = ContextKey.byIndex(i);
+                map.put(key == null ? String.valueOf(i) : key.name(), this.slots[i]);
+            }
+        }
+        if (this.named != null) {
+            map.putAll(this.named);
+        }
+        return map;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+}
@@ -3,15 +3,19 @@ package io.github.dong4j.coco.kernel.common.context;
 import com.alibaba.ttl.TransmittableThreadLocal;
 
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * <p>Description: 全局上下文 </p>
+ * <p>
+ * 值按 {@link ContextKey} 的槽位下标保存在每个线程的小数组中, {@link #get(ContextKey)} 与 {@link #set(ContextKey, Object)}
+ * 不做哈希查找也不分配对象; 字符串形式的方法按名字映射到同一个键, 名字没有声明为键时按名字保存在每个线程的小 map 中,
+ * 不会创建新的键, 行为保持不变.
+ * 数组被 {@link KernelContext#capture()} 捕获或传递给其他线程后不再原地修改, 因此捕获只需要引用当前数组.
+ * 该线程变量登记到了 {@link TransmittableThreadLocal.Transmitter}, 经 TTL 包装的线程池和 TTL agent 仍然会传递.
  *
  * @author dong4j
  * @version 1.0.0
@@ -23,7 +27,16 @@ import lombok.extern.slf4j.Slf4j;
 public final class GlobalContext {
 
     /** 公共使用 */
-    private static final TransmittableThreadLocal<Map<String, Object>> COMMON = new TransmittableThreadLocal<>();
+    private static final InheritableThreadLocal<ContextValues> COMMON = new InheritableThreadLocal<>() {
+        @Override
+        protected ContextValues childValue(ContextValues parentValue) {
+            return parentValue == null ? null : parentValue.share();
+        }
+    };
+
+    static {
+        TransmittableThreadLocal.Transmitter.registerThreadLocal(COMMON, values -> values == null ? null : values.share());
+    }
 
     /**
      * common
@@ -34,32 +47,27 @@ public final class GlobalContext {
      */
     @Contract(pure = true)
     public static @Nullable Object get(String key) {
-        Map<String, Object> cache = COMMON.get();
-        if (cache == null) {
-            return null;
-        } else {
-            return cache.get(key);
+        ContextValues values = COMMON.get();
+        if (values == null) {
+            KernelContext scoped = ContextPropagation.scoped();
+            return scoped == null ? null : scoped.get(key);
         }
+        return values.get(key);
     }
 
     /**
-     * Put
+     * Put, value 为 null 时移除
      *
      * @param key   key
      * @param value value
      * @since 2022.1.1
      */
-    @Contract(pure = true)
     public static void put(String key, Object value) {
-        Map<String, Object> cache = COMMON.get();
-        if (cache == null) {
-            cache = new HashMap<>(8);
-            cache.put(key, value);
-            COMMON.set(cache);
-        } else if (cache.get(key) != null) {
-            // 直接覆盖
-            cache.put(key, value);
+        ContextValues values = COMMON.get();
+        if (values == null && value == null) {
+            return;
         }
+        update(values, (values == null ? ContextValues.create() : values).with(key, value));
     }
 
     /**
@@ -68,11 +76,90 @@ public final class GlobalContext {
      * @param key key
      * @since 2022.1.1
      */
-    @Contract(pure = true)
     public static void clear(String key) {
-        final Map<String, Object> cache = COMMON.get();
-        if (cache != null) {
-            cache.remove(key);
+        put(key, null);
+    }
+
+    /**
+     * Get
+     *
+     * @param <T> parameter
+     * @param key key
+     * @return the t
+     * @since 2023.1.1
+     */
+    public static <T> @Nullable T get(@NotNull ContextKey<T> key) {
+        ContextValues values = COMMON.get();
+        if (values == null) {
+            KernelContext scoped = ContextPropagation.scoped();
+            return scoped == null ? null : scoped.get(key);
+        }
+        return values.get(key);
+    }
+
+    /**
+     * Set, value 为 null 时移除
+     *
+     * @param <T>   parameter
+     * @param key   key
+     * @param value value
+     * @since 2023.1.1
+     */
+    public static <T> void set(@NotNull ContextKey<T> key, @Nullable T value) {
+        ContextValues values = COMMON.get();
+        if (values == null && value == null) {
+            return;
+        }
+        update(values, (values == null ? ContextValues.create() : values).with(key, value));
+    }
+
+    /**
+     * Remove
+     *
+     * @param key key
+     * @since 2023.1.1
+     */
+    public static void remove(@NotNull ContextKey<?> key) {
+        ContextValues values = COMMON.get();
+        if (values != null) {
+            update(values, values.with(key, null));
+        }
+    }
+
+    /**
+     * 写入后得到的实例与当前不同 (复制或新建) 时替换当前线程的值
+     *
+     * @param current current
+     * @param updated updated
+     * @since 2023.1.1
+     */
+    private static void update(@Nullable ContextValues current, @NotNull ContextValues updated) {
+        if (updated != current) {
+            COMMON.set(updated);
+        }
+    }
+
+    /**
+     * 当前线程的值
+     *
+     * @return the context values
+     * @since 2023.1.1
+     */
+    static @Nullable ContextValues values() {
+        return COMMON.get();
+    }
+
+    /**
+     * 替换当前线程的值, 传入的值需要已经标记为共享
+     *
+     * @param values values
+     * @since 2023.1.1
+     */
+    static void values(@Nullable ContextValues values) {
+        if (values == null) {
+            COMMON.remove();
+        } else {
+            COMMON.set(values);
         }
     }
 }
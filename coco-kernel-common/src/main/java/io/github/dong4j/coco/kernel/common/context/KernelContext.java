@@ -0,0 +1,306 @@
+package io.github.dong4j.coco.kernel.common.context;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * <p>Description: {@link Trace} 与 {@link GlobalContext} 的不可变快照 </p>
+ * <p>
+ * {@link GlobalContext} 的值被捕获后不再原地修改, 快照直接引用它而不是逐项拷贝, 因此 {@link #capture()} 是 O(1) 的,
+ * 一个快照可以被任意多的子任务共享. 在执行线程中通过 {@link #install()} 安装, 关闭返回的 {@link Scope} 时还原:
+ * <pre>{@code
+ * KernelContext context = KernelContext.capture();
+ * executor.execute(() -> {
+ *     try (KernelContext.Scope ignored = context.install()) {
+ *         ...
+ *     }
+ * });
+ * }</pre>
+ * 批处理任务可以为每条记录构建上下文后一次性切换, 代替逐个调用 {@code Trace.context().set} 与 {@code GlobalContext.put/clear}:
+ * <pre>{@code
+ * KernelContext base = KernelContext.capture();
+ * for (Record record : records) {
+ *     try (KernelContext.Scope ignored = base.withTraceId(record.traceId()).with(TENANT_ID, record.tenantId()).install()) {
+ *         process(record);
+ *     }
+ * }
+ * }</pre>
+ * 安装时 {@link GlobalContext} 的所有值只是一次普通线程变量的写入; trace id 仍然写入 {@link Trace#context()} 暴露的
+ * {@link TransmittableThreadLocal}, 与当前值相同时跳过. 常见的包装方式见 {@link ContextPropagation}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 20:00
+ * @since 2023.1.1
+ */
+public final class KernelContext {
+    /** 空上下文 */
+    public static final KernelContext EMPTY = new KernelContext(null, null);
+
+    /** Trace id */
+    private final String traceId;
+    /** GlobalContext 的值, 已标记为共享 */
+    private final ContextValues values;
+
+    /**
+     * Kernel context
+     *
+     * @param traceId trace id
+     * @param values  values
+     * @since 2023.1.1
+     */
+    private KernelContext(@Nullable String traceId, @Nullable ContextValues values) {
+        this.traceId = traceId;
+        this.values = values;
+    }
+
+    /**
+     * 捕获当前线程的上下文; 当前线程没有上下文时返回 {@link ContextPropagation#scoped()} 绑定的快照
+     *
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static KernelContext capture() {
+        String traceId = Trace.context().get();
+        ContextValues values = GlobalContext.values();
+        if (traceId == null && values == null) {
+            KernelContext scoped = ContextPropagation.scoped();
+            return scoped == null ? EMPTY : scoped;
+        }
+        return new KernelContext(traceId, values == null ? null : values.share());
+    }
+
+    /**
+     * 只有 trace id 的上下文
+     *
+     * @param traceId trace id
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static KernelContext of(@Nullable String traceId) {
+        return traceId == null ? EMPTY : new KernelContext(traceId, null);
+    }
+
+    /**
+     * 清空当前线程的 trace id 与 {@link GlobalContext}
+     *
+     * @since 2023.1.1
+     */
+    public static void clear() {
+        Trace.clear();
+        GlobalContext.values(null);
+    }
+
+    /**
+     * 替换 trace id 后的新上下文, 与 {@link GlobalContext} 的值共享
+     *
+     * @param traceId trace id
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public KernelContext withTraceId(@Nullable String traceId) {
+        return new KernelContext(traceId, this.values);
+    }
+
+    /**
+     * 设置一个值后的新上下文, value 为 null 时移除
+     *
+     * @param <T>   parameter
+     * @param key   key
+     * @param value value
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public <T> KernelContext with(@NotNull ContextKey<T> key, @Nullable T value) {
+        ContextValues current = this.values;
+        if (current == null && value == null) {
+            return this;
+        }
+        return this.with((current == null ? ContextValues.create() : current).with(key, value));
+    }
+
+    /**
+     * 设置一个值后的新上下文, value 为 null 时移除
+     *
+     * @param key   key
+     * @param value value
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public KernelContext with(@NotNull String key, @Nullable Object value) {
+        ContextValues current = this.values;
+        if (current == null && value == null) {
+            return this;
+        }
+        return this.with((current == null ? ContextValues.create() : current).with(key, value));
+    }
+
+    /**
+     * With
+     *
+     * @param updated updated
+     * @return the kernel context
+     * @since 2023.1.1
+     */
+    private KernelContext with(ContextValues updated) {
+        return updated == this.values ? this : new KernelContext(this.traceId, updated.share());
+    }
+
+    /**
+     * 在当前线程安装该上下文, 关闭返回值时还原为安装前的上下文
+     *
+     * @return the scope
+     * @since 2023.1.1
+     */
+    @NotNull
+    public Scope install() {
+        String previousTraceId = Trace.context().get();
+        ContextValues previousValues = GlobalContext.values();
+        install(previousTraceId, previousValues, this.traceId, this.values);
+        // 与关闭时线程中的值比较, 而不是与安装的值比较: 作用域内的写入可能已经替换了线程变量
+        return () -> install(Trace.context().get(), GlobalContext.values(), previousTraceId, previousValues);
+    }
+
+    /**
+     * 在该上下文中执行
+     *
+     * @param runnable runnable
+     * @since 2023.1.1
+     */
+    public void run(@NotNull Runnable runnable) {
+        try (Scope ignored = this.install()) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * 在该上下文中执行
+     *
+     * @param <T>      parameter
+     * @param callable callable
+     * @return the t
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    public <T> T call(@NotNull Callable<T> callable) throws Exception {
+        try (Scope ignored = this.install()) {
+            return callable.call();
+        }
+    }
+
+    /**
+     * Trace id
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public @Nullable String traceId() {
+        return this.traceId;
+    }
+
+    /**
+     * 上下文中 {@link GlobalContext} 的值
+     *
+     * @param key key
+     * @return the object
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public @Nullable Object get(String key) {
+        return this.values == null ? null : this.values.get(key);
+    }
+
+    /**
+     * 上下文中 {@link GlobalContext} 的值
+     *
+     * @param <T> parameter
+     * @param key key
+     * @return the t
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public <T> @Nullable T get(@NotNull ContextKey<T> key) {
+        return this.values == null ? null : this.values.get(key);
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return this.traceId == null && (this.values == null || this.values.isEmpty());
+    }
+
+    /**
+     * 切换上下文, 与当前值相同 (引用相等) 时跳过对应的线程变量写入
+     *
+     * @param currentTraceId current trace id
+     * @param currentValues  current values
+     * @param traceId        trace id
+     * @param values         values
+     * @since 2023.1.1
+     */
+    private static void install(String currentTraceId, ContextValues currentValues,
+                                String traceId, ContextValues values) {
+        if (currentTraceId != traceId) {
+            TransmittableThreadLocal<String> trace = Trace.context();
+            if (traceId == null) {
+                trace.remove();
+            } else {
+                trace.set(traceId);
+            }
+        }
+        if (currentValues != values) {
+            GlobalContext.values(values);
+        }
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "KernelContext{traceId=" + this.traceId + ", values=" + this.values + '}';
+    }
+
+    /**
+     * <p>Description: 已安装的上下文, 关闭时还原, 只能在安装它的线程中关闭一次 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 20:00
+     * @since 2023.1.1
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        /**
+         * 还原为安装前的上下文
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.dong4j.coco.kernel.common.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>Description: 编译期生成 {@code @JsonTypeName} 类的索引 </p>
+ * <p>
+ * 把当前模块中标注了 {@code com.fasterxml.jackson.annotation.JsonTypeName} 的类的二进制名逐行写入
+ * {@link #INDEX_LOCATION}, {@code JsonUtils} 启动时直接加载各个 jar 中的索引注册子类型, 有索引的 jar 不再扫描;
+ * 没有索引的 jar 或目录仍然扫描. 通过 {@code META-INF/services} 注册, 依赖 coco-kernel-common 的模块编译时会自动执行;
+ * 显式配置了 {@code annotationProcessorPaths} 的模块需要把 coco-kernel-common 加入其中, 否则启动时回退为扫描该模块.
+ * JDK 23 起 javac 默认不再发现 classpath 上的处理器, 使用方需要开启 {@code -proc:full} (Maven 为 {@code <proc>full</proc>});
+ * Gradle 通过 {@code META-INF/gradle/incremental.annotation.processors} 把处理器声明为 aggregating.
+ * <p>
+ * 增量编译时只有变更的源文件参与处理, 因此会合并已有的索引, 保留仍然存在且仍然标注了该注解的类.
+ * 处理器只依赖 {@code javax.annotation.processing}, 注解按名字匹配, 不需要 Jackson 出现在处理器路径上.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 21:40
+ * @since 2023.1.1
+ */
+@SupportedAnnotationTypes(JsonTypeNameIndexProcessor.JSON_TYPE_NAME)
+public class JsonTypeNameIndexProcessor extends AbstractProcessor {
+    /** 索引文件在 classpath 中的位置 */
+    public static final String INDEX_LOCATION = "META-INF/coco/json-type-names";
+    /** JsonTypeName 注解 */
+    static final String JSON_TYPE_NAME = "com.fasterxml.jackson.annotation.JsonTypeName";
+
+    /** 已收集的类的二进制名 */
+    private final Set<String> typeNames = new TreeSet<>();
+    /** 是否已合并已有的索引 */
+    private boolean existingIndexMerged;
+
+    /**
+     * Gets supported source version *
+     *
+     * @return the supported source version
+     * @since 2023.1.1
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Process
+     *
+     * @param annotations annotations
+     * @param roundEnv    round env
+     * @return false, 不占用注解, 其他处理器仍然可以处理
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Elements elements = this.processingEnv.getElementUtils();
+        TypeElement annotation = elements.getTypeElement(JSON_TYPE_NAME);
+        if (annotation == null) {
+            return false;
+        }
+        if (!this.existingIndexMerged) {
+            this.existingIndexMerged = true;
+            this.mergeExistingIndex(elements, annotation);
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element instanceof TypeElement) {
+                this.typeNames.add(elements.getBinaryName((TypeElement) element).toString());
+            }
+        }
+        if (roundEnv.processingOver()) {
+            this.writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * 读取上次编译生成的索引, 保留仍然存在且仍然标注了 {@code @JsonTypeName} 的类
+     *
+     * @param elements   elements
+     * @param annotation annotation
+     * @since 2023.1.1
+     */
+    private void mergeExistingIndex(Elements elements, TypeElement annotation) {
+        try {
+            FileObject existing = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String typeName = line.trim();
+                    if (typeName.isEmpty() || typeName.startsWith("#")) {
+                        continue;
+                    }
+                    TypeElement type = elements.getTypeElement(typeName.replace('$', '.'));
+                    if (type != null && isAnnotated(type, annotation)) {
+                        this.typeNames.add(typeName);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 首次编译时没有索引
+        }
+    }
+
+    /**
+     * 写入索引, 没有任何类时不生成文件
+     *
+     * @since 2023.1.1
+     */
+    private void writeIndex() {
+        if (this.typeNames.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String typeName : this.typeNames) {
+                    writer.write(typeName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_LOCATION + ": " + e);
+        }
+    }
+
+    /**
+     * Is annotated
+     *
+     * @param type       type
+     * @param annotation annotation
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    private static boolean isAnnotated(TypeElement type, TypeElement annotation) {
+        return type.getAnnotationMirrors().stream()
+            .anyMatch(mirror -> mirror.getAnnotationType().asElement().equals(annotation));
+    }
+}
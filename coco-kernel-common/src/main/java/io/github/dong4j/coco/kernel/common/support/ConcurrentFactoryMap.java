@@ -1,10 +1,13 @@
 package io.github.dong4j.coco.kernel.common.support;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.AbstractCollection;
 import java.util.Collection;
 import java.util.Iterator;
@@ -12,11 +15,22 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 /**
  * <p>Description: 线程安全的 Map 工厂类</p>
+ * <p>
+ * 默认情况下未命中时由每个调用线程各自 {@link #create(Object)}, 只保留第一个放入的值; 对于计算代价高的值
+ * (资源包, 反射元数据等) 可使用 {@link #createSingleFlightMap(Function)}: 同一个 key 同时只有一个线程计算,
+ * 其余线程等待其结果, 命中时仍然是无锁的一次 {@link ConcurrentMap#get(Object)}.
+ * <p>
+ * 以上 map 只增不减 (弱引用 key 的除外), key 来自请求参数等无界集合时应使用 {@link #createBoundedMap(Function, long)}
+ * 或 {@link #createWeightedMap(Function, long, ToIntBiFunction, Duration)}: 超出容量时按最近最少使用淘汰, 可选写入后过期,
+ * 并通过 {@link Bounded} 提供命中, 未命中与淘汰计数.
  *
  * @param <K> parameter
  * @param <V> parameter
@@ -31,7 +45,9 @@ public abstract class ConcurrentFactoryMap<K, V> implements ConcurrentMap<K, V>
     /** NULL */
     private static final Object NULL = sentinel("ObjectUtils.NULL");
     /** My map */
-    private final ConcurrentMap<K, V> myMap = this.createMap();
+    private final ConcurrentMap<K, V> myMap;
+    /** 正在计算中的 key, 仅 single-flight 模式下不为 null */
+    private final ConcurrentMap<K, InFlight<V>> myInFlight;
 
     /**
      * Concurrent factory map
@@ -39,7 +55,29 @@ public abstract class ConcurrentFactoryMap<K, V> implements ConcurrentMap<K, V>
      * @since 1.4.0
      */
     private ConcurrentFactoryMap() {
+        this(false);
+    }
 
+    /**
+     * Concurrent factory map
+     *
+     * @param singleFlight 同一个 key 是否只允许一个线程计算
+     * @since 2023.1.1
+     */
+    private ConcurrentFactoryMap(boolean singleFlight) {
+        this(singleFlight, null);
+    }
+
+    /**
+     * Concurrent factory map
+     *
+     * @param singleFlight 同一个 key 是否只允许一个线程计算
+     * @param map          保存值的 map, 为 null 时使用 {@link #createMap()}
+     * @since 2023.1.1
+     */
+    private ConcurrentFactoryMap(boolean singleFlight, @Nullable ConcurrentMap<K, V> map) {
+        this.myMap = map != null ? map : this.createMap();
+        this.myInFlight = singleFlight ? new ConcurrentHashMap<>() : null;
     }
 
     /**
@@ -119,6 +157,135 @@ public abstract class ConcurrentFactoryMap<K, V> implements ConcurrentMap<K, V>
         };
     }
 
+    /**
+     * 创建 single-flight 模式的 map: 同一个 key 同时只有一个线程执行 {@code computeValue}, 其余线程等待并共享其结果.
+     * 计算抛出的异常同样抛给等待的线程, 且不会缓存, 下一次 get 重新计算.
+     *
+     * @param <T>          parameter
+     * @param <V>          parameter
+     * @param computeValue compute value
+     * @return the concurrent map
+     * @since 2023.1.1
+     */
+    @Contract("_ -> new")
+    @NotNull
+    public static <T, V> ConcurrentMap<T, V> createSingleFlightMap(@NotNull Function<? super T, ? extends V> computeValue) {
+        return new ConcurrentFactoryMap<T, V>(true) {
+            @Nullable
+            @Override
+            protected V create(T key) {
+                return computeValue.apply(key);
+            }
+        };
+    }
+
+    /**
+     * 创建 single-flight 模式的 map, 值保存在 {@code mapCreator} 创建的 map 中
+     *
+     * @param <K>          parameter
+     * @param <V>          parameter
+     * @param computeValue compute value
+     * @param mapCreator   map creator
+     * @return the concurrent map
+     * @see #createSingleFlightMap(Function)
+     * @since 2023.1.1
+     */
+    @Contract("_, _ -> new")
+    @NotNull
+    public static <K, V> ConcurrentMap<K, V> createSingleFlight(@NotNull Function<? super K, ? extends V> computeValue,
+                                                                @NotNull Supplier<? extends ConcurrentMap<K, V>> mapCreator) {
+        return new ConcurrentFactoryMap<K, V>(true) {
+            @Nullable
+            @Override
+            protected V create(K key) {
+                return computeValue.apply(key);
+            }
+
+            @NotNull
+            @Override
+            protected ConcurrentMap<K, V> createMap() {
+                return mapCreator.get();
+            }
+        };
+    }
+
+    /**
+     * 创建有界的 map: 条目数超过 {@code maximumSize} 时淘汰最近最少使用的条目, 被淘汰的 key 下次 get 时重新计算
+     *
+     * @param <K>          parameter
+     * @param <V>          parameter
+     * @param computeValue compute value
+     * @param maximumSize  最大条目数
+     * @return the bounded map
+     * @since 2023.1.1
+     */
+    @Contract("_, _ -> new")
+    @NotNull
+    public static <K, V> Bounded<K, V> createBoundedMap(@NotNull Function<? super K, ? extends V> computeValue,
+                                                        long maximumSize) {
+        return createBoundedMap(computeValue, maximumSize, null);
+    }
+
+    /**
+     * 创建有界的 map, 条目在写入 {@code expireAfterWrite} 之后过期
+     *
+     * @param <K>              parameter
+     * @param <V>              parameter
+     * @param computeValue     compute value
+     * @param maximumSize      最大条目数
+     * @param expireAfterWrite 写入后的存活时间, 为 null 时不过期
+     * @return the bounded map
+     * @since 2023.1.1
+     */
+    @Contract("_, _, _ -> new")
+    @NotNull
+    public static <K, V> Bounded<K, V> createBoundedMap(@NotNull Function<? super K, ? extends V> computeValue,
+                                                        long maximumSize,
+                                                        @Nullable Duration expireAfterWrite) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize);
+        return new Bounded<>(computeValue, expire(builder, expireAfterWrite).recordStats().build());
+    }
+
+    /**
+     * 创建按权重限制的 map: 所有条目的 {@code weigher} 之和超过 {@code maximumWeight} 时淘汰最近最少使用的条目.
+     * 适用于值大小差异较大的场景, 如按字节数限制缓存的序列化结果.
+     *
+     * @param <K>              parameter
+     * @param <V>              parameter
+     * @param computeValue     compute value
+     * @param maximumWeight    最大总权重
+     * @param weigher          条目的权重, 不能为负, 写入时计算一次
+     * @param expireAfterWrite 写入后的存活时间, 为 null 时不过期
+     * @return the bounded map
+     * @since 2023.1.1
+     */
+    @Contract("_, _, _, _ -> new")
+    @NotNull
+    public static <K, V> Bounded<K, V> createWeightedMap(@NotNull Function<? super K, ? extends V> computeValue,
+                                                         long maximumWeight,
+                                                         @NotNull ToIntBiFunction<? super K, ? super V> weigher,
+                                                         @Nullable Duration expireAfterWrite) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((k, v) -> weigher.applyAsInt(nullize(ConcurrentFactoryMap.<K>notNull(k)),
+                                                  nullize(ConcurrentFactoryMap.<V>notNull(v))));
+        return new Bounded<>(computeValue, expire(builder, expireAfterWrite).recordStats().build());
+    }
+
+    /**
+     * Expire
+     *
+     * @param <K>              parameter
+     * @param <V>              parameter
+     * @param builder          builder
+     * @param expireAfterWrite expire after write
+     * @return the cache builder
+     * @since 2023.1.1
+     */
+    private static <K, V> CacheBuilder<K, V> expire(CacheBuilder<K, V> builder, @Nullable Duration expireAfterWrite) {
+        return expireAfterWrite == null ? builder : builder.expireAfterWrite(expireAfterWrite);
+    }
+
     /**
      * Remove value
      *
@@ -194,14 +361,51 @@ public abstract class ConcurrentFactoryMap<K, V> implements ConcurrentMap<K, V>
         K k = notNull(key);
         V value = map.get(k);
         if (value == null) {
-            // noinspection unchecked
-            value = this.create((K) key);
-            V v = notNull(value);
-            value = cacheOrGet(map, k, v);
+            if (this.myInFlight != null) {
+                value = this.createSingleFlight(map, k, key);
+            } else {
+                // noinspection unchecked
+                value = this.create((K) key);
+                V v = notNull(value);
+                value = cacheOrGet(map, k, v);
+            }
         }
         return nullize(value);
     }
 
+    /**
+     * 第一个登记到 {@link #myInFlight} 的线程计算并缓存, 其余线程等待它的结果
+     *
+     * @param map map
+     * @param k   k
+     * @param key key
+     * @return the v
+     * @since 2023.1.1
+     */
+    @SuppressWarnings("unchecked")
+    private V createSingleFlight(ConcurrentMap<K, V> map, K k, Object key) {
+        InFlight<V> mine = new InFlight<>();
+        InFlight<V> leader = this.myInFlight.putIfAbsent(k, mine);
+        if (leader != null) {
+            return leader.await();
+        }
+        try {
+            // 上一个计算线程可能在本线程未命中之后刚刚完成
+            V value = map.get(k);
+            if (value == null) {
+                V v = notNull(this.create((K) key));
+                value = cacheOrGet(map, k, v);
+            }
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.fail(t);
+            throw t;
+        } finally {
+            this.myInFlight.remove(k, mine);
+        }
+    }
+
     /**
      * Not null
      *
@@ -666,6 +870,198 @@ public abstract class ConcurrentFactoryMap<K, V> implements ConcurrentMap<K, V>
         }
     }
 
+    /**
+     * <p>Description: 有界的 {@link ConcurrentFactoryMap}, 值保存在 Guava {@link Cache} 中 </p>
+     * <p>
+     * 淘汰与过期由 {@link Cache} 在读写时顺带完成, 不需要额外的清理线程. 计数均为近似值, 用于监控命中率与容量是否合适.
+     *
+     * @param <K> parameter
+     * @param <V> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:10
+     * @since 2023.1.1
+     */
+    public static final class Bounded<K, V> extends ConcurrentFactoryMap<K, V> {
+        /** Compute value */
+        private final Function<? super K, ? extends V> computeValue;
+        /** Cache */
+        private final Cache<K, V> cache;
+        /** get 的次数 */
+        private final LongAdder requests = new LongAdder();
+        /** create 的次数 */
+        private final LongAdder misses = new LongAdder();
+
+        /**
+         * Bounded
+         *
+         * @param computeValue compute value
+         * @param cache        cache
+         * @since 2023.1.1
+         */
+        private Bounded(Function<? super K, ? extends V> computeValue, Cache<K, V> cache) {
+            super(false, cache.asMap());
+            this.computeValue = computeValue;
+            this.cache = cache;
+        }
+
+        /**
+         * Create
+         *
+         * @param key key
+         * @return the v
+         * @since 2023.1.1
+         */
+        @Nullable
+        @Override
+        protected V create(K key) {
+            this.misses.increment();
+            return this.computeValue.apply(key);
+        }
+
+        /**
+         * Get
+         *
+         * @param key key
+         * @return the v
+         * @since 2023.1.1
+         */
+        @Override
+        public V get(Object key) {
+            this.requests.increment();
+            return super.get(key);
+        }
+
+        /**
+         * 命中次数
+         *
+         * @return the long
+         * @since 2023.1.1
+         */
+        public long hitCount() {
+            return Math.max(0L, this.requests.sum() - this.misses.sum());
+        }
+
+        /**
+         * 未命中次数, 即 {@link #create(Object)} 的次数
+         *
+         * @return the long
+         * @since 2023.1.1
+         */
+        public long missCount() {
+            return this.misses.sum();
+        }
+
+        /**
+         * 因容量或过期被淘汰的条目数, 不含 {@link #remove(Object)} 与 {@link #clear()}
+         *
+         * @return the long
+         * @since 2023.1.1
+         */
+        public long evictionCount() {
+            return this.cache.stats().evictionCount();
+        }
+
+        /**
+         * 命中率, 还没有 get 时为 1
+         *
+         * @return the double
+         * @since 2023.1.1
+         */
+        public double hitRate() {
+            long total = this.requests.sum();
+            return total == 0 ? 1.0 : (double) this.hitCount() / total;
+        }
+
+        /**
+         * 立即清理过期条目; 不调用时过期条目在后续读写时清理
+         *
+         * @since 2023.1.1
+         */
+        public void cleanUp() {
+            this.cache.cleanUp();
+        }
+    }
+
+    /**
+     * <p>Description: single-flight 模式下一个 key 的计算, 等待的线程阻塞在 {@link #done} 上 </p>
+     *
+     * @param <V> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 16:50
+     * @since 2023.1.1
+     */
+    private static final class InFlight<V> {
+        /** 计算线程 */
+        private final Thread owner = Thread.currentThread();
+        /** Done */
+        private final CountDownLatch done = new CountDownLatch(1);
+        /** 计算结果, 由 {@link #done} 发布 */
+        private V value;
+        /** 计算抛出的异常, 由 {@link #done} 发布 */
+        private Throwable failure;
+
+        /**
+         * Complete
+         *
+         * @param value value
+         * @since 2023.1.1
+         */
+        void complete(V value) {
+            this.value = value;
+            this.done.countDown();
+        }
+
+        /**
+         * Fail
+         *
+         * @param failure failure
+         * @since 2023.1.1
+         */
+        void fail(Throwable failure) {
+            this.failure = failure;
+            this.done.countDown();
+        }
+
+        /**
+         * 等待计算完成, 不响应中断 (中断状态会被保留)
+         *
+         * @return the v
+         * @since 2023.1.1
+         */
+        V await() {
+            if (this.owner == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive creation of the same key in ConcurrentFactoryMap");
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    this.done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable t = this.failure;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            if (t != null) {
+                throw new IllegalStateException(t);
+            }
+            return this.value;
+        }
+    }
+
     /**
      * <p>Description: </p>
      *
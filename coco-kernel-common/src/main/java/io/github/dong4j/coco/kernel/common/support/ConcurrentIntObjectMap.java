@@ -0,0 +1,475 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * <p>Description: int 键的并发 map, 键不装箱, 每个条目不分配节点 </p>
+ * <p>
+ * 开放寻址 (线性探测) 的哈希表, 键与值分别保存在 {@code int[]} 和 {@link AtomicReferenceArray} 中:
+ * <ul>
+ *     <li>读无锁: 先以 acquire 语义读值, 值不为空时键一定已经可见, 值为空表示探测链结束;</li>
+ *     <li>写串行: 所有修改在 map 的锁内进行, 一个槽位一旦写入某个键就只属于这个键, 删除只把值置为墓碑;</li>
+ *     <li>扩容与清理墓碑都是构建一张新表后整体发布, 正在读旧表的线程不受影响.</li>
+ * </ul>
+ * 适合枚举序号, 小整数 id 等 int 键的读多写少场景. 不允许 null 值, 通过 {@link #createMap(IntFunction)} 创建的 map
+ * 未命中时计算并缓存, 与 {@link ConcurrentFactoryMap#createMap(java.util.function.Function)} 相同, 计算结果可以为 null.
+ *
+ * @param <V> parameter
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 18:10
+ * @since 2023.1.1
+ */
+public final class ConcurrentIntObjectMap<V> {
+    /** 默认容量 */
+    private static final int DEFAULT_CAPACITY = 16;
+    /** 最大容量 */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    /** 已删除的槽位 */
+    private static final Object REMOVED = ConcurrentFactoryMap.sentinel("ConcurrentIntObjectMap.REMOVED");
+    /** 计算结果为 null 时缓存的值 */
+    private static final Object NULL = ConcurrentFactoryMap.sentinel("ConcurrentIntObjectMap.NULL");
+
+    /** 当前的表, 扩容时整体替换 */
+    private volatile Table table;
+    /** 有值的槽位数 */
+    private volatile int size;
+    /** 未命中时计算值, 普通 map 为 null */
+    private final IntFunction<? extends V> computeValue;
+
+    /**
+     * Concurrent int object map
+     *
+     * @since 2023.1.1
+     */
+    public ConcurrentIntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Concurrent int object map
+     *
+     * @param expectedSize 预计的条目数
+     * @since 2023.1.1
+     */
+    public ConcurrentIntObjectMap(int expectedSize) {
+        this(expectedSize, null);
+    }
+
+    /**
+     * Concurrent int object map
+     *
+     * @param expectedSize expected size
+     * @param computeValue compute value
+     * @since 2023.1.1
+     */
+    private ConcurrentIntObjectMap(int expectedSize, @Nullable IntFunction<? extends V> computeValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        this.table = new Table(capacityFor(expectedSize));
+        this.computeValue = computeValue;
+    }
+
+    /**
+     * 创建未命中时调用 {@code computeValue} 计算并缓存的 map
+     *
+     * @param <V>          parameter
+     * @param computeValue compute value
+     * @return the concurrent int object map
+     * @since 2023.1.1
+     */
+    @Contract("_ -> new")
+    @NotNull
+    public static <V> ConcurrentIntObjectMap<V> createMap(@NotNull IntFunction<? extends V> computeValue) {
+        return new ConcurrentIntObjectMap<>(DEFAULT_CAPACITY, Objects.requireNonNull(computeValue, "computeValue"));
+    }
+
+    /**
+     * 获取 {@code key} 的值; 通过 {@link #createMap(IntFunction)} 创建的 map 未命中时计算并缓存
+     *
+     * @param key key
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Nullable
+    public V get(int key) {
+        Object value = this.table.get(key);
+        if (value == null && this.computeValue != null) {
+            V created = this.computeValue.apply(key);
+            value = this.insert(key, created == null ? NULL : created, true);
+        }
+        return unmask(value);
+    }
+
+    /**
+     * 是否包含 {@code key}, 不会触发计算
+     *
+     * @param key key
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public boolean containsKey(int key) {
+        return this.table.get(key) != null;
+    }
+
+    /**
+     * Put
+     *
+     * @param key   key
+     * @param value value
+     * @return 之前的值
+     * @since 2023.1.1
+     */
+    @Nullable
+    public V put(int key, @NotNull V value) {
+        return unmask(this.insert(key, Objects.requireNonNull(value, "value"), false));
+    }
+
+    /**
+     * Put if absent
+     *
+     * @param key   key
+     * @param value value
+     * @return 已存在的值, 写入成功时为 null
+     * @since 2023.1.1
+     */
+    @Nullable
+    public V putIfAbsent(int key, @NotNull V value) {
+        Objects.requireNonNull(value, "value");
+        Object existing = this.table.get(key);
+        if (existing != null) {
+            return unmask(existing);
+        }
+        Object result = this.insert(key, value, true);
+        return result == value ? null : unmask(result);
+    }
+
+    /**
+     * 不存在时调用 {@code mappingFunction} 计算并写入; 计算在锁外进行, 并发时可能计算多次但只保留第一个写入的值
+     *
+     * @param key             key
+     * @param mappingFunction mapping function
+     * @return 当前的值, 计算结果为 null 时不写入并返回 null
+     * @since 2023.1.1
+     */
+    @Nullable
+    public V computeIfAbsent(int key, @NotNull IntFunction<? extends V> mappingFunction) {
+        Object existing = this.table.get(key);
+        if (existing != null) {
+            return unmask(existing);
+        }
+        V created = mappingFunction.apply(key);
+        return created == null ? null : unmask(this.insert(key, created, true));
+    }
+
+    /**
+     * Remove
+     *
+     * @param key key
+     * @return 被删除的值
+     * @since 2023.1.1
+     */
+    @Nullable
+    public V remove(int key) {
+        if (this.table.get(key) == null) {
+            return null;
+        }
+        synchronized (this) {
+            Table t = this.table;
+            int index = t.indexOf(key);
+            if (index < 0) {
+                return null;
+            }
+            Object old = t.values.get(index);
+            if (old == REMOVED) {
+                return null;
+            }
+            t.values.setRelease(index, REMOVED);
+            t.tombstones++;
+            this.size--;
+            return unmask(old);
+        }
+    }
+
+    /**
+     * Size
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Clear
+     *
+     * @since 2023.1.1
+     */
+    public synchronized void clear() {
+        this.table = new Table(DEFAULT_CAPACITY);
+        this.size = 0;
+    }
+
+    /**
+     * 遍历当前表中的条目, 遍历期间的修改可能可见也可能不可见
+     *
+     * @param action action
+     * @since 2023.1.1
+     */
+    public void forEach(@NotNull EntryConsumer<? super V> action) {
+        Table t = this.table;
+        for (int i = 0; i < t.keys.length; i++) {
+            Object value = t.values.getAcquire(i);
+            if (value != null && value != REMOVED) {
+                action.accept(t.keys[i], unmask(value));
+            }
+        }
+    }
+
+    /**
+     * 当前所有键的快照
+     *
+     * @return the int [ ]
+     * @since 2023.1.1
+     */
+    @NotNull
+    public int[] keys() {
+        Table t = this.table;
+        int[] result = new int[this.size];
+        int count = 0;
+        for (int i = 0; i < t.keys.length && count < result.length; i++) {
+            Object value = t.values.getAcquire(i);
+            if (value != null && value != REMOVED) {
+                result[count++] = t.keys[i];
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 在锁内写入
+     *
+     * @param key        key
+     * @param value      value, 已经处理过 null
+     * @param onlyAbsent 键已存在时是否保留原值
+     * @return onlyAbsent 时为当前的值 (写入成功即 {@code value}), 否则为之前的值
+     * @since 2023.1.1
+     */
+    private synchronized Object insert(int key, @NotNull Object value, boolean onlyAbsent) {
+        Table t = this.table;
+        int index = t.indexOf(key);
+        if (index >= 0) {
+            Object old = t.values.get(index);
+            if (old != REMOVED) {
+                if (!onlyAbsent) {
+                    t.values.setRelease(index, value);
+                }
+                return old;
+            }
+            // 复用同一个键的墓碑
+            t.values.setRelease(index, value);
+            t.tombstones--;
+            this.size++;
+            return onlyAbsent ? value : null;
+        }
+        if ((this.size + t.tombstones + 1) * 2 > t.keys.length) {
+            t = this.rebuild(t);
+        }
+        index = ~t.indexOf(key);
+        t.keys[index] = key;
+        // release 保证读线程看到值时也能看到键
+        t.values.setRelease(index, value);
+        this.size++;
+        return onlyAbsent ? value : null;
+    }
+
+    /**
+     * 按当前条目数重建表, 丢弃墓碑, 必要时扩容
+     *
+     * @param old old
+     * @return the table
+     * @since 2023.1.1
+     */
+    private Table rebuild(Table old) {
+        Table t = new Table(capacityFor(this.size + 1));
+        for (int i = 0; i < old.keys.length; i++) {
+            Object value = old.values.get(i);
+            if (value != null && value != REMOVED) {
+                int index = ~t.indexOf(old.keys[i]);
+                t.keys[index] = old.keys[i];
+                t.values.set(index, value);
+            }
+        }
+        // volatile 写发布整张新表
+        this.table = t;
+        return t;
+    }
+
+    /**
+     * 负载因子为 0.5 时容纳 {@code size} 个条目所需的 2 的幂容量
+     *
+     * @param size size
+     * @return the int
+     * @since 2023.1.1
+     */
+    private static int capacityFor(int size) {
+        long needed = Math.max(DEFAULT_CAPACITY, (long) size * 2);
+        if (needed > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("ConcurrentIntObjectMap can not hold " + size + " entries");
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * 把内部的标记还原为返回给调用方的值
+     *
+     * @param <V>   parameter
+     * @param value value
+     * @return the v
+     * @since 2023.1.1
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(@Nullable Object value) {
+        return value == null || value == NULL || value == REMOVED ? null : (V) value;
+    }
+
+    /**
+     * Hash, 连续的序号经过混合后在线性探测中分布得更均匀
+     *
+     * @param key key
+     * @return the int
+     * @since 2023.1.1
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * <p>Description: 遍历条目的回调, 避免装箱 </p>
+     *
+     * @param <V> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:10
+     * @since 2023.1.1
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Accept
+         *
+         * @param key   key
+         * @param value value
+         * @since 2023.1.1
+         */
+        void accept(int key, V value);
+    }
+
+    /**
+     * <p>Description: 一张哈希表, 槽位的键写入后不再改变 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:10
+     * @since 2023.1.1
+     */
+    private static final class Table {
+        /** Keys, 在值之前写入 */
+        private final int[] keys;
+        /** Values, null 为空槽位 */
+        private final AtomicReferenceArray<Object> values;
+        /** 墓碑数量, 只在锁内访问 */
+        private int tombstones;
+
+        /**
+         * Table
+         *
+         * @param capacity 2 的幂
+         * @since 2023.1.1
+         */
+        private Table(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * 无锁读取, 键不存在时返回 null
+         *
+         * @param key key
+         * @return 内部的值, 可能是墓碑
+         * @since 2023.1.1
+         */
+        private Object get(int key) {
+            int mask = this.keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                Object value = this.values.getAcquire(i);
+                if (value == null) {
+                    return null;
+                }
+                if (this.keys[i] == key) {
+                    return value == REMOVED ? null : value;
+                }
+            }
+        }
+
+        /**
+         * 键所在的槽位; 不存在时返回 {@code ~空槽位}
+         *
+         * @param key key
+         * @return the int
+         * @since 2023.1.1
+         */
+        private int indexOf(int key) {
+            int mask = this.keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (this.values.get(i) == null) {
+                    return ~i;
+                }
+                if (this.keys[i] == key) {
+                    return i;
+                }
+            }
+        }
+    }
+}
@@ -11,11 +11,15 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.github.dong4j.coco.kernel.common.exception.KernelException;
 
 /**
  * <p>Description: </p>
+ * <p>
+ * 被 GC 回收的值按 {@link ReferencePurgeMode} 从 map 中清理, 清理的条目数与每次清理的耗时分别由
+ * {@link #purgedCount()} 与 {@link #purgeLatency()} 统计.
  *
  * @param <K> parameter
  * @param <V> parameter
@@ -28,8 +32,38 @@ import io.github.dong4j.coco.kernel.common.exception.KernelException;
 abstract class ConcurrentRefValueHashMap<K, V> implements ConcurrentMap<K, V> {
     /** My queue */
     protected final ReferenceQueue<V> myQueue = new ReferenceQueue<>();
+    /** AMORTIZED 模式下每次操作最多清理的引用数 */
+    static final int MAX_PURGE_PER_OPERATION = 64;
+    /** 所有 map 每次清理的耗时, 单位纳秒 */
+    private static final LatencyHistogram PURGE_LATENCY = new LatencyHistogram();
     /** My map */
     private final ConcurrentMap<K, ValueReference<K, V>> myMap = new ConcurrentHashMap<>();
+    /** My purge mode */
+    private final ReferencePurgeMode myPurgeMode;
+    /** 已清理的条目数 */
+    private final LongAdder myPurged = new LongAdder();
+
+    /**
+     * Concurrent ref value hash map
+     *
+     * @since 2023.1.1
+     */
+    ConcurrentRefValueHashMap() {
+        this(ReferencePurgeMode.INLINE);
+    }
+
+    /**
+     * Concurrent ref value hash map
+     *
+     * @param purgeMode purge mode
+     * @since 2023.1.1
+     */
+    ConcurrentRefValueHashMap(@NotNull ReferencePurgeMode purgeMode) {
+        this.myPurgeMode = purgeMode;
+        if (purgeMode == ReferencePurgeMode.BACKGROUND) {
+            ReferenceQueueCleaner.register(this);
+        }
+    }
 
     /**
      * Put if absent
@@ -77,18 +111,70 @@ abstract class ConcurrentRefValueHashMap<K, V> implements ConcurrentMap<K, V> {
      * @since 1.4.0
      */
     boolean processQueue() {
-        boolean processed = false;
+        switch (this.myPurgeMode) {
+            case AMORTIZED:
+                return this.drain(MAX_PURGE_PER_OPERATION) > 0;
+            case BACKGROUND:
+                return false;
+            default:
+                return this.drain(Integer.MAX_VALUE) > 0;
+        }
+    }
 
-        while (true) {
+    /**
+     * 清理最多 {@code limit} 个已回收的引用
+     *
+     * @param limit limit
+     * @return 清理的引用数
+     * @since 2023.1.1
+     */
+    int drain(int limit) {
+        long start = System.nanoTime();
+        int purged = 0;
+        while (purged < limit) {
             @SuppressWarnings("unchecked")
             ValueReference<K, V> ref = (ValueReference<K, V>) this.myQueue.poll();
             if (ref == null) {
                 break;
             }
             this.myMap.remove(ref.getKey(), ref);
-            processed = true;
+            purged++;
         }
-        return processed;
+        if (purged > 0) {
+            this.myPurged.add(purged);
+            PURGE_LATENCY.record(System.nanoTime() - start);
+        }
+        return purged;
+    }
+
+    /**
+     * Purge mode
+     *
+     * @return the reference purge mode
+     * @since 2023.1.1
+     */
+    public ReferencePurgeMode purgeMode() {
+        return this.myPurgeMode;
+    }
+
+    /**
+     * 从本 map 中清理掉的已回收条目数
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long purgedCount() {
+        return this.myPurged.sum();
+    }
+
+    /**
+     * 所有 map 每次清理的耗时分布, 单位纳秒, 只记录清理到条目的那些
+     *
+     * @return the latency histogram
+     * @since 2023.1.1
+     */
+    public static LatencyHistogram purgeLatency() {
+        return PURGE_LATENCY;
     }
 
     /**
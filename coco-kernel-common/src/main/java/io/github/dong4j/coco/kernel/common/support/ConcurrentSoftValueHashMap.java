@@ -10,6 +10,7 @@ import java.util.Objects;
  * Concurrent strong key:K -> soft value:V map
  * 不允许使用空键;
  * 不允许使用空值;
+ * 软引用可能在堆接近满时被一次性清空, 需要平稳淘汰时使用 {@link MemoryAwareCache}.
  *
  * @param <K> parameter
  * @param <V> parameter
@@ -21,6 +22,26 @@ import java.util.Objects;
  */
 @SuppressWarnings(value = {"checkstyle:EqualsHashCode", "checkstyle:ModifierOrder"})
 public final class ConcurrentSoftValueHashMap<K, V> extends ConcurrentRefValueHashMap<K, V> {
+
+    /**
+     * 写操作时清理全部已回收的值
+     *
+     * @since 2023.1.1
+     */
+    public ConcurrentSoftValueHashMap() {
+        super();
+    }
+
+    /**
+     * Concurrent soft value hash map
+     *
+     * @param purgeMode 清理已回收的值的方式
+     * @since 2023.1.1
+     */
+    public ConcurrentSoftValueHashMap(@NotNull ReferencePurgeMode purgeMode) {
+        super(purgeMode);
+    }
+
     /**
      * Create value reference
      *
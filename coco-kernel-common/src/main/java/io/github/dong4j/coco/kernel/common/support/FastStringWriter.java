@@ -4,9 +4,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /**
  * <p>Description: 借助 StringBuilder 提供快读的字符串写出, 相比 jdk 的 StringWriter 非线程安全, 速度更快.  </p>
+ * <p>
+ * 序列化响应等热点路径可使用 {@link #acquire()} 获取当前线程复用的实例, 用完 {@link #close()} 归还; 内容可通过
+ * {@link #encodeUtf8()} 等方法直接编码为 UTF-8 字节, 不需要先 {@link #toString()} 再 {@link String#getBytes}.
+ * 归还时超过 {@value #MAX_RETAINED_CAPACITY} 的缓冲区会被丢弃, 避免偶尔的大响应长期占用内存.
  *
  * @author dong4j
  * @version 1.2.3
@@ -15,8 +21,24 @@ import java.io.Writer;
  * @since 1.0.0
  */
 public class FastStringWriter extends Writer {
+    /** 默认容量 */
+    private static final int DEFAULT_CAPACITY = 64;
+    /** 复用的实例归还时最多保留的字符数与字节数 */
+    public static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    /** 每个线程复用的实例 */
+    private static final ThreadLocal<FastStringWriter> POOL = ThreadLocal.withInitial(() -> {
+        FastStringWriter writer = new FastStringWriter(1024);
+        writer.pooled = true;
+        return writer;
+    });
     /** Builder */
     private final StringBuilder builder;
+    /** 是否为 {@link #POOL} 中的实例 */
+    private boolean pooled;
+    /** 复用的实例是否已被借出 */
+    private boolean inUse;
+    /** {@link #encodeUtf8()} 复用的字节缓冲区 */
+    private byte[] bytes;
 
     /**
      * Instantiates a new Fast string writer.
@@ -24,7 +46,7 @@ public class FastStringWriter extends Writer {
      * @since 1.0.0
      */
     public FastStringWriter() {
-        this.builder = new StringBuilder(64);
+        this.builder = new StringBuilder(DEFAULT_CAPACITY);
     }
 
     /**
@@ -47,7 +69,35 @@ public class FastStringWriter extends Writer {
      * @since 1.0.0
      */
     public FastStringWriter(@Nullable StringBuilder builder) {
-        this.builder = builder != null ? builder : new StringBuilder(64);
+        this.builder = builder != null ? builder : new StringBuilder(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 获取当前线程复用的实例, 用完必须 {@link #close()} 归还 (推荐 try-with-resources).
+     * 同一线程嵌套获取时, 内层得到的是一个新的实例.
+     *
+     * @return the fast string writer
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static FastStringWriter acquire() {
+        FastStringWriter writer = POOL.get();
+        if (writer.inUse) {
+            return new FastStringWriter();
+        }
+        writer.inUse = true;
+        return writer;
+    }
+
+    /**
+     * 清空内容, 保留缓冲区
+     *
+     * @return the fast string writer
+     * @since 2023.1.1
+     */
+    public FastStringWriter reset() {
+        this.builder.setLength(0);
+        return this;
     }
 
     /**
@@ -185,13 +235,159 @@ public class FastStringWriter extends Writer {
     }
 
     /**
-     * Close
+     * 内容编码为 UTF-8 后的字节数
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int utf8Length() {
+        StringBuilder sb = this.builder;
+        int length = sb.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = sb.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(sb.charAt(i + 1))) {
+                // 一对代理项 2 个 char, 4 个字节
+                bytes += 2;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // 不成对的代理项按 String#getBytes 的方式编码为 '?'
+                continue;
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 把内容编码为 UTF-8 写入 {@code dst}, 不创建中间的 String
+     *
+     * @param dst    dst
+     * @param offset offset
+     * @return 写入的字节数
+     * @throws IndexOutOfBoundsException {@code dst} 剩余空间不足 {@link #utf8Length()} 时
+     * @since 2023.1.1
+     */
+    public int encodeUtf8(byte @NotNull [] dst, int offset) {
+        StringBuilder sb = this.builder;
+        int length = sb.length();
+        int position = offset;
+        for (int i = 0; i < length; i++) {
+            char c = sb.charAt(i);
+            if (c < 0x80) {
+                dst[position++] = (byte) c;
+            } else if (c < 0x800) {
+                dst[position++] = (byte) (0xC0 | (c >> 6));
+                dst[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(sb.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, sb.charAt(++i));
+                dst[position++] = (byte) (0xF0 | (codePoint >> 18));
+                dst[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                dst[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                dst[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                dst[position++] = (byte) '?';
+            } else {
+                dst[position++] = (byte) (0xE0 | (c >> 12));
+                dst[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * 把内容编码为 UTF-8 写入 {@code dst} 的当前位置, 写入后 position 前移
+     *
+     * @param dst dst
+     * @return 写入的字节数
+     * @throws BufferOverflowException {@code dst} 剩余空间不足 {@link #utf8Length()} 时
+     * @since 2023.1.1
+     */
+    public int encodeUtf8(@NotNull ByteBuffer dst) {
+        int length = this.utf8Length();
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            int written = this.encodeUtf8(dst.array(), dst.arrayOffset() + dst.position());
+            dst.position(dst.position() + written);
+            return written;
+        }
+        byte[] buffer = this.bytes(length);
+        this.encodeUtf8(buffer, 0);
+        dst.put(buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * 把内容编码到本实例复用的字节缓冲区中, 返回的 buffer 在下一次编码或归还之前有效
+     *
+     * @return position 为 0, limit 为字节数的 buffer
+     * @since 2023.1.1
+     */
+    @NotNull
+    public ByteBuffer encodeUtf8() {
+        int length = this.utf8Length();
+        byte[] buffer = this.bytes(length);
+        this.encodeUtf8(buffer, 0);
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+
+    /**
+     * 编码为一个刚好大小的 UTF-8 字节数组, 相当于 {@code toString().getBytes(UTF_8)} 但少一次 String 分配
+     *
+     * @return the byte [ ]
+     * @since 2023.1.1
+     */
+    public byte @NotNull [] toUtf8Bytes() {
+        byte[] result = new byte[this.utf8Length()];
+        this.encodeUtf8(result, 0);
+        return result;
+    }
+
+    /**
+     * 至少 {@code length} 字节的复用缓冲区
+     *
+     * @param length length
+     * @return the byte [ ]
+     * @since 2023.1.1
+     */
+    private byte[] bytes(int length) {
+        byte[] buffer = this.bytes;
+        if (buffer == null || buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer == null ? DEFAULT_CAPACITY : buffer.length * 2)];
+            this.bytes = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Close; 通过 {@link #acquire()} 获取的实例清空后归还, 超过 {@link #MAX_RETAINED_CAPACITY} 的缓冲区被丢弃
      *
      * @since 1.0.0
      */
     @Override
     public void close() {
         this.builder.setLength(0);
-        this.builder.trimToSize();
+        if (!this.pooled) {
+            this.builder.trimToSize();
+            this.bytes = null;
+            return;
+        }
+        if (this.builder.capacity() > MAX_RETAINED_CAPACITY) {
+            this.builder.trimToSize();
+            this.builder.ensureCapacity(DEFAULT_CAPACITY);
+        }
+        if (this.bytes != null && this.bytes.length > MAX_RETAINED_CAPACITY) {
+            this.bytes = null;
+        }
+        this.inUse = false;
     }
 }
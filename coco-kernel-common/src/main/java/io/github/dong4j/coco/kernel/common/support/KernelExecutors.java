@@ -0,0 +1,571 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import com.alibaba.ttl.TtlRunnable;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Description: 内核统一的线程池工厂 </p>
+ * <p>
+ * 创建的线程池都有名字 (线程名为 {@code name-thread-N}), 并且:
+ * <ul>
+ *     <li>提交任务时捕获提交线程的 {@code TransmittableThreadLocal} (包括 Trace 与 GlobalContext), 在执行线程中恢复;</li>
+ *     <li>按名字登记, 可通过 {@link #stats(String)} 查看执行中, 排队中与已完成的任务数, 关闭后自动注销.</li>
+ * </ul>
+ * 运行在 Java 21 及以上时 {@link #virtualThreadPerTask(String)} 为每个任务创建一个具名的虚拟线程, 适合通知, 日志等 I/O 任务;
+ * 更低的版本上退化为按需创建平台线程的线程池. 虚拟线程通过反射创建, 编译目标仍然是 Java 17.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 18:50
+ * @since 2023.1.1
+ */
+public final class KernelExecutors {
+    /** 已登记的线程池 */
+    private static final Map<String, NamedExecutorService> POOLS = new ConcurrentHashMap<>();
+    /** 创建虚拟线程工厂的方法, 不支持虚拟线程时为 null */
+    private static final VirtualThreadFactories VIRTUAL_THREADS = VirtualThreadFactories.lookup();
+
+    /**
+     * Kernel executors
+     *
+     * @since 2023.1.1
+     */
+    private KernelExecutors() {
+    }
+
+    /**
+     * 当前 JVM 是否支持虚拟线程
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREADS != null;
+    }
+
+    /**
+     * 每个任务一个虚拟线程; 不支持虚拟线程时为按需创建守护线程的线程池 (空闲 60 秒回收)
+     *
+     * @param name 线程池名称, 也是线程名前缀
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static ExecutorService virtualThreadPerTask(@NotNull String name) {
+        return register(name, newVirtualThreadPerTask(name), false);
+    }
+
+    /**
+     * New virtual thread per task
+     *
+     * @param name name
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    private static ExecutorService newVirtualThreadPerTask(@NotNull String name) {
+        if (VIRTUAL_THREADS != null) {
+            return VIRTUAL_THREADS.newThreadPerTaskExecutor(name + "-thread-");
+        }
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                                      new SynchronousQueue<>(),
+                                      new NamedThreadFactory(name, true));
+    }
+
+    /**
+     * 有界的平台线程池, 队列满且线程数达到 {@code maximumThreads} 时拒绝任务 ({@link RejectedExecutionException})
+     *
+     * @param name           线程池名称, 也是线程名前缀
+     * @param coreThreads    核心线程数, 空闲 60 秒后回收
+     * @param maximumThreads 最大线程数
+     * @param queueCapacity  队列容量, {@link Integer#MAX_VALUE} 表示不限
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static ExecutorService boundedPool(@NotNull String name, int coreThreads, int maximumThreads, int queueCapacity) {
+        return register(name, newBoundedPool(name, coreThreads, maximumThreads, queueCapacity), false);
+    }
+
+    /**
+     * New bounded pool
+     *
+     * @param name           name
+     * @param coreThreads    core threads
+     * @param maximumThreads maximum threads
+     * @param queueCapacity  queue capacity
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    private static ExecutorService newBoundedPool(@NotNull String name, int coreThreads, int maximumThreads, int queueCapacity) {
+        BlockingQueue<Runnable> queue = queueCapacity == Integer.MAX_VALUE
+                                        ? new LinkedBlockingQueue<>()
+                                        : new ArrayBlockingQueue<>(queueCapacity);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(coreThreads, maximumThreads, 60L, TimeUnit.SECONDS, queue,
+                                                             new NamedThreadFactory(name, true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 工作窃取线程池 ({@link ForkJoinPool}, 异步模式), 适合大量短小的计算任务
+     *
+     * @param name        线程池名称, 也是线程名前缀
+     * @param parallelism 并行度
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static ExecutorService workStealing(@NotNull String name, int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-thread-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return register(name, new ForkJoinPool(parallelism, factory, null, true), false);
+    }
+
+    /**
+     * 内核共享的 I/O 线程池 {@code coco-io}: 支持时使用虚拟线程, 否则为 {@code max(8, 2 * cpu)} 个平台线程.
+     * 用于异步通知等阻塞在网络上的任务, 不需要关闭; 返回值的 {@code shutdown}, {@code shutdownNow} 与 {@code close} 不做任何事,
+     * 避免某个调用方 (或关闭线程池 bean 的容器) 关闭后其他使用者的任务全部被拒绝.
+     *
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static ExecutorService io() {
+        return IoHolder.IO;
+    }
+
+    /**
+     * 线程池的统计
+     *
+     * @param name name
+     * @return 没有该名称的线程池时为 null
+     * @since 2023.1.1
+     */
+    @Nullable
+    public static PoolStats stats(@NotNull String name) {
+        NamedExecutorService executor = POOLS.get(name);
+        return executor == null ? null : executor.stats();
+    }
+
+    /**
+     * 所有未关闭的线程池的统计
+     *
+     * @return the list
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static List<PoolStats> stats() {
+        List<PoolStats> result = new ArrayList<>(POOLS.size());
+        for (NamedExecutorService executor : POOLS.values()) {
+            result.add(executor.stats());
+        }
+        return result;
+    }
+
+    /**
+     * Register
+     *
+     * @param name     name
+     * @param delegate delegate
+     * @param shared   是否为共享的线程池, 共享的线程池不能被关闭
+     * @return the executor service
+     * @since 2023.1.1
+     */
+    @NotNull
+    private static ExecutorService register(@NotNull String name, @NotNull ExecutorService delegate, boolean shared) {
+        NamedExecutorService executor = new NamedExecutorService(name, delegate, shared);
+        if (POOLS.putIfAbsent(name, executor) != null) {
+            delegate.shutdown();
+            throw new IllegalStateException("Executor '" + name + "' already exists");
+        }
+        return executor;
+    }
+
+    /**
+     * <p>Description: 一个线程池的统计快照 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:50
+     * @since 2023.1.1
+     */
+    public static final class PoolStats {
+        /** Name */
+        private final String name;
+        /** Active */
+        private final int active;
+        /** Queued */
+        private final long queued;
+        /** Completed */
+        private final long completed;
+
+        /**
+         * Pool stats
+         *
+         * @param name      name
+         * @param active    active
+         * @param queued    queued
+         * @param completed completed
+         * @since 2023.1.1
+         */
+        private PoolStats(String name, int active, long queued, long completed) {
+            this.name = name;
+            this.active = active;
+            this.queued = queued;
+            this.completed = completed;
+        }
+
+        /**
+         * Gets name *
+         *
+         * @return the name
+         * @since 2023.1.1
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * 正在执行的任务数
+         *
+         * @return the active
+         * @since 2023.1.1
+         */
+        public int getActive() {
+            return this.active;
+        }
+
+        /**
+         * 已提交但还没开始执行的任务数
+         *
+         * @return the queued
+         * @since 2023.1.1
+         */
+        public long getQueued() {
+            return this.queued;
+        }
+
+        /**
+         * 已执行完成的任务数, 包括抛出异常的
+         *
+         * @return the completed
+         * @since 2023.1.1
+         */
+        public long getCompleted() {
+            return this.completed;
+        }
+
+        /**
+         * To string
+         *
+         * @return the string
+         * @since 2023.1.1
+         */
+        @Override
+        public String toString() {
+            return this.name + "{active=" + this.active + ", queued=" + this.queued + ", completed=" + this.completed + "}";
+        }
+    }
+
+    /**
+     * <p>Description: 统计任务并传递 TransmittableThreadLocal 的线程池包装 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:50
+     * @since 2023.1.1
+     */
+    private static final class NamedExecutorService extends AbstractExecutorService {
+        /** Name */
+        private final String name;
+        /** Delegate */
+        private final ExecutorService delegate;
+        /** 共享的线程池忽略关闭 */
+        private final boolean shared;
+        /** Submitted */
+        private final LongAdder submitted = new LongAdder();
+        /** Completed */
+        private final LongAdder completed = new LongAdder();
+        /** Active */
+        private final AtomicInteger active = new AtomicInteger();
+
+        /**
+         * Named executor service
+         *
+         * @param name     name
+         * @param delegate delegate
+         * @param shared   shared
+         * @since 2023.1.1
+         */
+        private NamedExecutorService(String name, ExecutorService delegate, boolean shared) {
+            this.name = name;
+            this.delegate = delegate;
+            this.shared = shared;
+        }
+
+        /**
+         * Execute
+         *
+         * @param command command
+         * @since 2023.1.1
+         */
+        @Override
+        public void execute(@NotNull Runnable command) {
+            Runnable task = TtlRunnable.get(command, false, true);
+            this.submitted.increment();
+            try {
+                this.delegate.execute(() -> {
+                    this.active.incrementAndGet();
+                    try {
+                        task.run();
+                    } finally {
+                        this.active.decrementAndGet();
+                        this.completed.increment();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                this.submitted.decrement();
+                throw e;
+            }
+        }
+
+        /**
+         * Stats
+         *
+         * @return the pool stats
+         * @since 2023.1.1
+         */
+        private PoolStats stats() {
+            long completed = this.completed.sum();
+            int active = this.active.get();
+            long queued = Math.max(0L, this.submitted.sum() - completed - active);
+            return new PoolStats(this.name, active, queued, completed);
+        }
+
+        /**
+         * Shutdown
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void shutdown() {
+            if (this.shared) {
+                return;
+            }
+            POOLS.remove(this.name, this);
+            this.delegate.shutdown();
+        }
+
+        /**
+         * Shutdown now
+         *
+         * @return the list
+         * @since 2023.1.1
+         */
+        @NotNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            if (this.shared) {
+                return Collections.emptyList();
+            }
+            POOLS.remove(this.name, this);
+            return this.delegate.shutdownNow();
+        }
+
+        /**
+         * Java 19 起 {@code ExecutorService} 的默认实现会关闭并一直等待终止, 共享的线程池不会终止, 因此这里直接返回
+         *
+         * @since 2023.1.1
+         */
+        public void close() {
+            if (this.shared) {
+                return;
+            }
+            this.shutdown();
+            boolean interrupted = false;
+            while (!this.isTerminated()) {
+                try {
+                    this.awaitTermination(1L, TimeUnit.DAYS);
+                } catch (InterruptedException e) {
+                    if (!interrupted) {
+                        this.shutdownNow();
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Is shutdown
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isShutdown() {
+            return this.delegate.isShutdown();
+        }
+
+        /**
+         * Is terminated
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isTerminated() {
+            return this.delegate.isTerminated();
+        }
+
+        /**
+         * Await termination
+         *
+         * @param timeout timeout
+         * @param unit    unit
+         * @return the boolean
+         * @throws InterruptedException interrupted exception
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+            return this.delegate.awaitTermination(timeout, unit);
+        }
+
+        /**
+         * To string
+         *
+         * @return the string
+         * @since 2023.1.1
+         */
+        @Override
+        public String toString() {
+            return this.stats().toString();
+        }
+    }
+
+    /**
+     * <p>Description: 通过反射调用 Java 21 的 {@code Thread.ofVirtual()} 与 {@code Executors.newThreadPerTaskExecutor} </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:50
+     * @since 2023.1.1
+     */
+    private static final class VirtualThreadFactories {
+        /** Thread.ofVirtual() */
+        private final Method ofVirtual;
+        /** Thread.Builder#name(String, long) */
+        private final Method name;
+        /** Thread.Builder#factory() */
+        private final Method factory;
+        /** Executors.newThreadPerTaskExecutor(ThreadFactory) */
+        private final Method newThreadPerTaskExecutor;
+
+        /**
+         * Virtual thread factories
+         *
+         * @throws ReflectiveOperationException reflective operation exception
+         * @since 2023.1.1
+         */
+        private VirtualThreadFactories() throws ReflectiveOperationException {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            this.ofVirtual = Thread.class.getMethod("ofVirtual");
+            this.name = builder.getMethod("name", String.class, long.class);
+            this.factory = builder.getMethod("factory");
+            this.newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        }
+
+        /**
+         * 查找并试用一次, Java 19/20 未开启预览特性时 {@code ofVirtual()} 会抛出异常
+         *
+         * @return 不支持时为 null
+         * @since 2023.1.1
+         */
+        @Nullable
+        private static VirtualThreadFactories lookup() {
+            try {
+                VirtualThreadFactories factories = new VirtualThreadFactories();
+                factories.ofVirtual.invoke(null);
+                return factories;
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                return null;
+            }
+        }
+
+        /**
+         * New thread per task executor
+         *
+         * @param prefix 线程名前缀, 后接从 0 开始的序号
+         * @return the executor service
+         * @since 2023.1.1
+         */
+        private ExecutorService newThreadPerTaskExecutor(String prefix) {
+            try {
+                Object builder = this.name.invoke(this.ofVirtual.invoke(null), prefix, 0L);
+                ThreadFactory threadFactory = (ThreadFactory) this.factory.invoke(builder);
+                return (ExecutorService) this.newThreadPerTaskExecutor.invoke(null, threadFactory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Can not create virtual threads", e);
+            }
+        }
+    }
+
+    /**
+     * <p>Description: 延迟到第一次使用时才创建共享的 I/O 线程池 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 18:50
+     * @since 2023.1.1
+     */
+    private static final class IoHolder {
+        /** IO */
+        private static final ExecutorService IO = register("coco-io",
+                                                           isVirtualThreadSupported()
+                                                           ? newVirtualThreadPerTask("coco-io")
+                                                           : newBoundedPool("coco-io",
+                                                                            Math.max(8, 2 * Runtime.getRuntime().availableProcessors()),
+                                                                            Math.max(8, 2 * Runtime.getRuntime().availableProcessors()),
+                                                                            Integer.MAX_VALUE),
+                                                           true);
+    }
+}
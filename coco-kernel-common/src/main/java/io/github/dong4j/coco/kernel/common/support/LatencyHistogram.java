@@ -0,0 +1,235 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Description: 无锁, 记录时不分配对象的延迟直方图 </p>
+ * <p>
+ * 桶按 HdrHistogram 的思路做对数-线性划分: 小于 16 的值每个值一个桶, 之后每个 2 的幂区间再均分为 8 个子桶,
+ * 因此任意值的相对误差不超过 12.5%, 整个 long 的取值范围只需要 488 个桶.
+ * 记录只有数组下标计算和几次原子自增, 可以放在热点路径上.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 11:05
+ * @since 2023.1.1
+ */
+public final class LatencyHistogram {
+    /** 每个 2 的幂区间的子桶数量的位数 */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** 子桶数量 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** 小于该值时每个值一个桶 */
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    /** 桶数量 */
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKET_COUNT;
+
+    /** Counts */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    /** Count */
+    private final AtomicLong count = new AtomicLong();
+    /** Total */
+    private final AtomicLong total = new AtomicLong();
+    /** Max */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一个值, 负数按 0 处理
+     *
+     * @param value value
+     * @since 2023.1.1
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(indexOf(value));
+        this.count.incrementAndGet();
+        this.total.addAndGet(value);
+        if (value > this.max.get()) {
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * 记录值的数量
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long count() {
+        return this.count.get();
+    }
+
+    /**
+     * 所有记录值之和
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long total() {
+        return this.total.get();
+    }
+
+    /**
+     * 记录的最大值
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long max() {
+        return this.max.get();
+    }
+
+    /**
+     * 平均值
+     *
+     * @return the double
+     * @since 2023.1.1
+     */
+    public double mean() {
+        long c = this.count.get();
+        return c == 0 ? 0 : (double) this.total.get() / c;
+    }
+
+    /**
+     * 百分位值 (所在桶的上界), 不分配对象, 可以直接用于指标采集
+     *
+     * @param percentile 0 - 100
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long valueAtPercentile(double percentile) {
+        long c = this.count.get();
+        if (c == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * c);
+        if (rank < 1) {
+            rank = 1;
+        }
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), this.max.get());
+            }
+        }
+        return this.max.get();
+    }
+
+    /**
+     * 百分位值并转换时间单位 (记录值为纳秒时使用)
+     *
+     * @param percentile percentile
+     * @param unit       unit
+     * @return the double
+     * @since 2023.1.1
+     */
+    public double valueAtPercentile(double percentile, TimeUnit unit) {
+        return (double) this.valueAtPercentile(percentile) / unit.toNanos(1);
+    }
+
+    /**
+     * 桶数量
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int bucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    /**
+     * 桶内的计数
+     *
+     * @param index index
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long bucketCount(int index) {
+        return this.counts.get(index);
+    }
+
+    /**
+     * 桶可容纳的最大值
+     *
+     * @param index index
+     * @return the long
+     * @since 2023.1.1
+     */
+    public static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int magnitude = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        int sub = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long lowest = ((long) (SUB_BUCKET_COUNT + sub)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * 把另一个直方图的计数累加到当前直方图, 用于合并分段记录的结果
+     *
+     * @param other other
+     * @since 2023.1.1
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                this.counts.addAndGet(i, c);
+            }
+        }
+        this.count.addAndGet(other.count.get());
+        this.total.addAndGet(other.total.get());
+        this.max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * 清空所有计数, 与并发的 {@link #record(long)} 之间不保证原子性
+     *
+     * @since 2023.1.1
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.counts.set(i, 0);
+        }
+        this.count.set(0);
+        this.total.set(0);
+        this.max.set(0);
+    }
+
+    /**
+     * Index of
+     *
+     * @param value value
+     * @return the int
+     * @since 2023.1.1
+     */
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (magnitude - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + this.count() + ", mean=" + this.mean() + ", p50=" + this.valueAtPercentile(50)
+               + ", p99=" + this.valueAtPercentile(99) + ", max=" + this.max() + '}';
+    }
+}
@@ -0,0 +1,982 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * <p>Description: 按内存预算逐步淘汰的缓存, 用于替代 {@link ConcurrentSoftValueHashMap} </p>
+ * <p>
+ * 软引用由 GC 决定何时清理, G1/ZGC 通常在堆接近满时一次性清空所有软引用, 缓存在最需要稳定的时候整体失效.
+ * 本缓存自己统计条目的近似占用 (由 {@code weigher} 估算), 两种情况下按最近最少使用的顺序淘汰:
+ * <ul>
+ *     <li>占用超过 {@code maximumBytes} 时, 淘汰到预算的 90%;</li>
+ *     <li>上一次 GC 后老年代的使用率超过 {@code heapUsageThreshold} 时, 每 {@value #PRESSURE_CHECK_INTERVAL_MILLIS} ms
+ *     最多淘汰当前占用的 {@code evictionStep}, 压力持续时缓存逐步缩小而不是一次清空.</li>
+ * </ul>
+ * 堆使用率在读写时顺带检查, 不需要额外的线程. 不允许 null 键和 null 值.
+ * {@link #keySet()}, {@link #values()} 与 {@link #entrySet()} 是实时视图, 通过视图或其迭代器删除会同步更新占用; 条目不支持 {@code setValue}.
+ *
+ * @param <K> parameter
+ * @param <V> parameter
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 17:30
+ * @since 2023.1.1
+ */
+public final class MemoryAwareCache<K, V> implements ConcurrentMap<K, V> {
+    /** 每个条目在 {@link ConcurrentHashMap} 与 {@link Node} 上的固定开销 */
+    private static final long ENTRY_OVERHEAD = 64L;
+    /** 超出预算时淘汰到预算的比例 */
+    private static final double LOW_WATERMARK = 0.9D;
+    /** 两次检查堆使用率的最小间隔 */
+    private static final long PRESSURE_CHECK_INTERVAL_MILLIS = 100L;
+    /** 淘汰时按访问时间划分的区间数, 只有落在截止区间内的条目需要排序 */
+    private static final int EVICTION_BUCKETS = 64;
+    /** 访问时间的精度, 同一精度内的重复访问不写 {@link Node#accessed} */
+    private static final long ACCESS_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    /** 默认的堆使用率阈值 */
+    public static final double DEFAULT_HEAP_USAGE_THRESHOLD = 0.85D;
+    /** 默认每次淘汰的比例 */
+    public static final double DEFAULT_EVICTION_STEP = 0.1D;
+    /** 老年代内存池, 没有可用的内存池时为 null */
+    private static final MemoryPoolMXBean TENURED_POOL = tenuredPool();
+
+    /** My map */
+    private final ConcurrentMap<K, Node<K, V>> myMap = new ConcurrentHashMap<>();
+    /** Maximum bytes */
+    private final long maximumBytes;
+    /** Heap usage threshold */
+    private final double heapUsageThreshold;
+    /** Eviction step */
+    private final double evictionStep;
+    /** Weigher */
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    /** 所有条目的近似占用 */
+    private final AtomicLong weightedSize = new AtomicLong();
+    /** Eviction count */
+    private final AtomicLong evictionCount = new AtomicLong();
+    /** 同一时间只有一个线程淘汰 */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /** 下一次检查堆使用率的时间 */
+    private final AtomicLong nextPressureCheck = new AtomicLong(System.nanoTime());
+
+    /**
+     * 使用默认的堆使用率阈值与 {@link #estimateSize(Object)} 估算占用
+     *
+     * @param maximumBytes 缓存的内存预算, 单位字节
+     * @since 2023.1.1
+     */
+    public MemoryAwareCache(long maximumBytes) {
+        this(maximumBytes, DEFAULT_HEAP_USAGE_THRESHOLD, DEFAULT_EVICTION_STEP,
+             (key, value) -> estimateSize(key) + estimateSize(value));
+    }
+
+    /**
+     * Memory aware cache
+     *
+     * @param maximumBytes       缓存的内存预算, 单位字节, {@link Long#MAX_VALUE} 表示只按堆使用率淘汰
+     * @param heapUsageThreshold 老年代使用率超过该值时开始淘汰, 取值 (0, 1], 1 表示不检查堆使用率
+     * @param evictionStep       堆使用率超过阈值时每次淘汰当前占用的比例, 取值 (0, 1]
+     * @param weigher            估算一个条目占用的字节数, 写入时调用一次
+     * @since 2023.1.1
+     */
+    public MemoryAwareCache(long maximumBytes,
+                            double heapUsageThreshold,
+                            double evictionStep,
+                            @NotNull ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("maximumBytes must be greater than 0: " + maximumBytes);
+        }
+        if (heapUsageThreshold <= 0 || heapUsageThreshold > 1) {
+            throw new IllegalArgumentException("heapUsageThreshold must be in (0, 1]: " + heapUsageThreshold);
+        }
+        if (evictionStep <= 0 || evictionStep > 1) {
+            throw new IllegalArgumentException("evictionStep must be in (0, 1]: " + evictionStep);
+        }
+        this.maximumBytes = maximumBytes;
+        this.heapUsageThreshold = heapUsageThreshold;
+        this.evictionStep = evictionStep;
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+    }
+
+    /**
+     * Get
+     *
+     * @param key key
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Override
+    public V get(@NotNull Object key) {
+        Node<K, V> node = this.myMap.get(key);
+        long now = System.nanoTime();
+        this.checkPressure(now);
+        if (node == null) {
+            return null;
+        }
+        node.touch(now);
+        return node.value;
+    }
+
+    /**
+     * Put
+     *
+     * @param key   key
+     * @param value value
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Override
+    public V put(@NotNull K key, @NotNull V value) {
+        Node<K, V> node = this.newNode(key, value);
+        Node<K, V> old = this.myMap.put(key, node);
+        this.added(node, old);
+        return old == null ? null : old.value;
+    }
+
+    /**
+     * Put if absent
+     *
+     * @param key   key
+     * @param value value
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Override
+    public V putIfAbsent(@NotNull K key, @NotNull V value) {
+        Node<K, V> existing = this.myMap.get(key);
+        if (existing != null) {
+            existing.touch(System.nanoTime());
+            return existing.value;
+        }
+        Node<K, V> node = this.newNode(key, value);
+        existing = this.myMap.putIfAbsent(key, node);
+        if (existing != null) {
+            return existing.value;
+        }
+        this.added(node, null);
+        return null;
+    }
+
+    /**
+     * Replace
+     *
+     * @param key   key
+     * @param value value
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Override
+    public V replace(@NotNull K key, @NotNull V value) {
+        Node<K, V> node = this.newNode(key, value);
+        Node<K, V> old = this.myMap.replace(key, node);
+        if (old == null) {
+            return null;
+        }
+        this.added(node, old);
+        return old.value;
+    }
+
+    /**
+     * Replace
+     *
+     * @param key      key
+     * @param oldValue old value
+     * @param newValue new value
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean replace(@NotNull K key, @NotNull V oldValue, @NotNull V newValue) {
+        Node<K, V> old = this.myMap.get(key);
+        if (old == null || !old.value.equals(oldValue)) {
+            return false;
+        }
+        Node<K, V> node = this.newNode(key, newValue);
+        if (!this.myMap.replace(key, old, node)) {
+            return false;
+        }
+        this.added(node, old);
+        return true;
+    }
+
+    /**
+     * Remove
+     *
+     * @param key key
+     * @return the v
+     * @since 2023.1.1
+     */
+    @Override
+    public V remove(@NotNull Object key) {
+        Node<K, V> old = this.myMap.remove(key);
+        if (old == null) {
+            return null;
+        }
+        this.weightedSize.addAndGet(-old.weight);
+        return old.value;
+    }
+
+    /**
+     * Remove
+     *
+     * @param key   key
+     * @param value value
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean remove(@NotNull Object key, @NotNull Object value) {
+        Node<K, V> old = this.myMap.get(key);
+        return old != null && old.value.equals(value) && this.removeNode(old);
+    }
+
+    /**
+     * Put all
+     *
+     * @param m m
+     * @since 2023.1.1
+     */
+    @Override
+    public void putAll(@NotNull Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Clear
+     *
+     * @since 2023.1.1
+     */
+    @Override
+    public void clear() {
+        for (K key : this.myMap.keySet()) {
+            this.remove(key);
+        }
+    }
+
+    /**
+     * Size
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    @Override
+    public int size() {
+        return this.myMap.size();
+    }
+
+    /**
+     * Is empty
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.myMap.isEmpty();
+    }
+
+    /**
+     * Contains key
+     *
+     * @param key key
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean containsKey(@NotNull Object key) {
+        return this.myMap.containsKey(key);
+    }
+
+    /**
+     * Contains value
+     *
+     * @param value value
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean containsValue(@NotNull Object value) {
+        for (Node<K, V> node : this.myMap.values()) {
+            if (node.value.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 键的视图, 支持删除
+     *
+     * @return the set
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Override
+    public Set<K> keySet() {
+        return new KeySet();
+    }
+
+    /**
+     * 值的视图, 支持删除
+     *
+     * @return the collection
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Override
+    public Collection<V> values() {
+        return new Values();
+    }
+
+    /**
+     * 条目的视图, 支持删除; 条目是不可变的
+     *
+     * @return the set
+     * @since 2023.1.1
+     */
+    @NotNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * 所有条目的近似占用, 单位字节
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long weightedSize() {
+        return this.weightedSize.get();
+    }
+
+    /**
+     * Maximum bytes
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long maximumBytes() {
+        return this.maximumBytes;
+    }
+
+    /**
+     * 因超出预算或堆使用率过高被淘汰的条目数, 不含 {@link #remove(Object)} 与 {@link #clear()}
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long evictionCount() {
+        return this.evictionCount.get();
+    }
+
+    /**
+     * 按最近最少使用的顺序淘汰当前占用的 {@code fraction}, 可用于在收到外部内存告警时主动收缩
+     *
+     * @param fraction 取值 [0, 1]
+     * @since 2023.1.1
+     */
+    public void shrink(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("fraction must be in [0, 1]: " + fraction);
+        }
+        this.evict((long) (this.weightedSize.get() * (1 - fraction)));
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "map size:" + this.size() + " weighted size:" + this.weightedSize() + "/" + this.maximumBytes;
+    }
+
+    /**
+     * New node
+     *
+     * @param key   key
+     * @param value value
+     * @return the node
+     * @since 2023.1.1
+     */
+    @NotNull
+    private Node<K, V> newNode(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        long weight = ENTRY_OVERHEAD + Math.max(0L, this.weigher.applyAsLong(key, value));
+        return new Node<>(key, value, weight, System.nanoTime());
+    }
+
+    /**
+     * 更新占用, 超出预算时淘汰
+     *
+     * @param node 写入的条目
+     * @param old  被替换的条目, 没有时为 null
+     * @since 2023.1.1
+     */
+    private void added(@NotNull Node<K, V> node, @Nullable Node<K, V> old) {
+        long size = this.weightedSize.addAndGet(old == null ? node.weight : node.weight - old.weight);
+        if (size > this.maximumBytes) {
+            this.evict((long) (this.maximumBytes * LOW_WATERMARK));
+        }
+        this.checkPressure(node.accessed);
+    }
+
+    /**
+     * 到了检查时间且堆使用率超过阈值时淘汰 {@link #evictionStep}, 每个间隔只有一个线程检查
+     *
+     * @param now now
+     * @since 2023.1.1
+     */
+    private void checkPressure(long now) {
+        if (this.heapUsageThreshold >= 1) {
+            return;
+        }
+        long next = this.nextPressureCheck.get();
+        if (now - next < 0
+            || !this.nextPressureCheck.compareAndSet(next, now + TimeUnit.MILLISECONDS.toNanos(PRESSURE_CHECK_INTERVAL_MILLIS))) {
+            return;
+        }
+        if (!this.myMap.isEmpty() && heapUsage() > this.heapUsageThreshold) {
+            this.evict((long) (this.weightedSize.get() * (1 - this.evictionStep)));
+        }
+    }
+
+    /**
+     * 按访问时间从旧到新淘汰, 直到占用不超过 {@code target}; 已有线程在淘汰时直接返回.
+     * 不对全部条目排序: 先把访问时间划分为 {@value #EVICTION_BUCKETS} 个区间并累计每个区间的占用, 截止区间之前的条目直接淘汰,
+     * 只有截止区间内的条目需要复制并排序.
+     *
+     * @param target target
+     * @since 2023.1.1
+     */
+    private void evict(long target) {
+        if (this.weightedSize.get() <= target || !this.evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long excess = this.weightedSize.get() - target;
+            long oldest = Long.MAX_VALUE;
+            long newest = Long.MIN_VALUE;
+            for (Node<K, V> node : this.myMap.values()) {
+                oldest = Math.min(oldest, node.accessed);
+                newest = Math.max(newest, node.accessed);
+            }
+            if (oldest > newest) {
+                return;
+            }
+            long width = (newest - oldest) / EVICTION_BUCKETS + 1;
+            long[] weights = new long[EVICTION_BUCKETS];
+            for (Node<K, V> node : this.myMap.values()) {
+                weights[bucket(node, oldest, width)] += node.weight;
+            }
+            int cutoff = 0;
+            for (long sum = 0L; cutoff < EVICTION_BUCKETS - 1 && sum + weights[cutoff] < excess; cutoff++) {
+                sum += weights[cutoff];
+            }
+
+            List<Node<K, V>> candidates = new ArrayList<>();
+            for (Node<K, V> node : this.myMap.values()) {
+                int bucket = bucket(node, oldest, width);
+                if (bucket < cutoff) {
+                    this.evictNode(node);
+                } else if (bucket == cutoff) {
+                    candidates.add(node);
+                }
+            }
+            candidates.sort(Comparator.comparingLong(node -> node.accessed));
+            for (Node<K, V> node : candidates) {
+                if (this.weightedSize.get() <= target) {
+                    break;
+                }
+                this.evictNode(node);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 访问时间所在的区间, 两次遍历之间被访问过的条目归入最后一个区间
+     *
+     * @param node   node
+     * @param oldest oldest
+     * @param width  width
+     * @return the int
+     * @since 2023.1.1
+     */
+    private static int bucket(@NotNull Node<?, ?> node, long oldest, long width) {
+        long index = (node.accessed - oldest) / width;
+        return index < 0 ? 0 : (int) Math.min(index, EVICTION_BUCKETS - 1);
+    }
+
+    /**
+     * Evict node
+     *
+     * @param node node
+     * @since 2023.1.1
+     */
+    private void evictNode(@NotNull Node<K, V> node) {
+        if (this.removeNode(node)) {
+            this.evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 条目仍然是该键当前的条目时删除并更新占用
+     *
+     * @param node node
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    private boolean removeNode(@NotNull Node<K, V> node) {
+        if (!this.myMap.remove(node.key, node)) {
+            return false;
+        }
+        this.weightedSize.addAndGet(-node.weight);
+        return true;
+    }
+
+    /**
+     * 上一次 GC 后老年代 (没有时为整个堆) 的使用率. 不使用 {@link MemoryPoolMXBean#getUsage()}:
+     * 它包含尚未回收的垃圾, G1 与 Parallel GC 下老年代在回收前经常高于阈值, 并不代表真正的内存压力.
+     *
+     * @return the double
+     * @since 2023.1.1
+     */
+    static double heapUsage() {
+        if (TENURED_POOL != null) {
+            MemoryUsage usage = TENURED_POOL.getCollectionUsage();
+            if (usage == null) {
+                return 0D;
+            }
+            long max = usage.getMax() > 0 ? usage.getMax() : Runtime.getRuntime().maxMemory();
+            return (double) usage.getUsed() / max;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+    }
+
+    /**
+     * 支持使用率阈值的堆内存池即老年代 (G1 Old Gen, PS Old Gen, ZGC 的 ZHeap 等), 新生代的内存池不支持;
+     * 同时需要支持 GC 后的使用率统计
+     *
+     * @return the memory pool mx bean
+     * @since 2023.1.1
+     */
+    @Nullable
+    private static MemoryPoolMXBean tenuredPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                && pool.isCollectionUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 估算对象占用的字节数: 字符串与基本类型数组按长度计算, 集合按元素个数计算, 其他对象按固定大小计算
+     *
+     * @param object object
+     * @return the long
+     * @since 2023.1.1
+     */
+    @Contract(pure = true)
+    public static long estimateSize(@Nullable Object object) {
+        if (object == null) {
+            return 0L;
+        }
+        if (object instanceof String) {
+            return 40L + ((String) object).length();
+        }
+        if (object instanceof CharSequence) {
+            return 40L + 2L * ((CharSequence) object).length();
+        }
+        if (object instanceof byte[]) {
+            return 16L + ((byte[]) object).length;
+        }
+        if (object instanceof char[]) {
+            return 16L + 2L * ((char[]) object).length;
+        }
+        if (object instanceof int[]) {
+            return 16L + 4L * ((int[]) object).length;
+        }
+        if (object instanceof long[]) {
+            return 16L + 8L * ((long[]) object).length;
+        }
+        if (object instanceof Object[]) {
+            return 16L + 4L * ((Object[]) object).length;
+        }
+        if (object instanceof Collection) {
+            return 48L + 32L * ((Collection<?>) object).size();
+        }
+        if (object instanceof Map) {
+            return 64L + 48L * ((Map<?, ?>) object).size();
+        }
+        return 32L;
+    }
+
+    /**
+     * <p>Description: 遍历条目的迭代器, {@link #remove()} 删除当前条目并更新占用 </p>
+     *
+     * @param <T> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:30
+     * @since 2023.1.1
+     */
+    private abstract class NodeIterator<T> implements Iterator<T> {
+        /** Delegate */
+        private final Iterator<Node<K, V>> delegate = MemoryAwareCache.this.myMap.values().iterator();
+        /** 上一次 {@link #next()} 返回的条目 */
+        private Node<K, V> last;
+
+        /**
+         * Has next
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean hasNext() {
+            return this.delegate.hasNext();
+        }
+
+        /**
+         * Next
+         *
+         * @return the t
+         * @since 2023.1.1
+         */
+        @Override
+        public T next() {
+            this.last = this.delegate.next();
+            return this.map(this.last);
+        }
+
+        /**
+         * Remove
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+            MemoryAwareCache.this.removeNode(this.last);
+            this.last = null;
+        }
+
+        /**
+         * Map
+         *
+         * @param node node
+         * @return the t
+         * @since 2023.1.1
+         */
+        abstract T map(Node<K, V> node);
+    }
+
+    /**
+     * <p>Description: 键的视图 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:30
+     * @since 2023.1.1
+     */
+    private final class KeySet extends AbstractSet<K> {
+
+        /**
+         * Iterator
+         *
+         * @return the iterator
+         * @since 2023.1.1
+         */
+        @NotNull
+        @Override
+        public Iterator<K> iterator() {
+            return new NodeIterator<K>() {
+                @Override
+                K map(Node<K, V> node) {
+                    return node.key;
+                }
+            };
+        }
+
+        /**
+         * Size
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        @Override
+        public int size() {
+            return MemoryAwareCache.this.size();
+        }
+
+        /**
+         * Contains
+         *
+         * @param o o
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean contains(Object o) {
+            return o != null && MemoryAwareCache.this.containsKey(o);
+        }
+
+        /**
+         * Remove
+         *
+         * @param o o
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean remove(Object o) {
+            return o != null && MemoryAwareCache.this.remove(o) != null;
+        }
+
+        /**
+         * Clear
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void clear() {
+            MemoryAwareCache.this.clear();
+        }
+    }
+
+    /**
+     * <p>Description: 值的视图 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:30
+     * @since 2023.1.1
+     */
+    private final class Values extends AbstractCollection<V> {
+
+        /**
+         * Iterator
+         *
+         * @return the iterator
+         * @since 2023.1.1
+         */
+        @NotNull
+        @Override
+        public Iterator<V> iterator() {
+            return new NodeIterator<V>() {
+                @Override
+                V map(Node<K, V> node) {
+                    return node.value;
+                }
+            };
+        }
+
+        /**
+         * Size
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        @Override
+        public int size() {
+            return MemoryAwareCache.this.size();
+        }
+
+        /**
+         * Contains
+         *
+         * @param o o
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean contains(Object o) {
+            return o != null && MemoryAwareCache.this.containsValue(o);
+        }
+
+        /**
+         * Clear
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void clear() {
+            MemoryAwareCache.this.clear();
+        }
+    }
+
+    /**
+     * <p>Description: 条目的视图 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:30
+     * @since 2023.1.1
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        /**
+         * Iterator
+         *
+         * @return the iterator
+         * @since 2023.1.1
+         */
+        @NotNull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new NodeIterator<Entry<K, V>>() {
+                @Override
+                Entry<K, V> map(Node<K, V> node) {
+                    return new AbstractMap.SimpleImmutableEntry<>(node.key, node.value);
+                }
+            };
+        }
+
+        /**
+         * Size
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        @Override
+        public int size() {
+            return MemoryAwareCache.this.size();
+        }
+
+        /**
+         * Contains
+         *
+         * @param o o
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry) || ((Entry<?, ?>) o).getKey() == null) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Node<K, V> node = MemoryAwareCache.this.myMap.get(entry.getKey());
+            return node != null && node.value.equals(entry.getValue());
+        }
+
+        /**
+         * Remove
+         *
+         * @param o o
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return entry.getKey() != null && entry.getValue() != null
+                   && MemoryAwareCache.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        /**
+         * Clear
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void clear() {
+            MemoryAwareCache.this.clear();
+        }
+    }
+
+    /**
+     * <p>Description: 缓存条目, 占用在写入时计算一次 </p>
+     *
+     * @param <K> parameter
+     * @param <V> parameter
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:30
+     * @since 2023.1.1
+     */
+    private static final class Node<K, V> {
+        /** Key */
+        private final K key;
+        /** Value */
+        private final V value;
+        /** Weight */
+        private final long weight;
+        /** 最近一次访问的 {@link System#nanoTime()}, 多线程下允许丢失更新 */
+        private long accessed;
+
+        /**
+         * Node
+         *
+         * @param key      key
+         * @param value    value
+         * @param weight   weight
+         * @param accessed accessed
+         * @since 2023.1.1
+         */
+        private Node(K key, V value, long weight, long accessed) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.accessed = accessed;
+        }
+
+        /**
+         * Touch
+         *
+         * @param now now
+         * @since 2023.1.1
+         */
+        private void touch(long now) {
+            if (now - this.accessed > ACCESS_RESOLUTION_NANOS) {
+                this.accessed = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+/**
+ * <p>Description: {@link ConcurrentSoftValueHashMap} 清理被 GC 回收的值的方式 </p>
+ * <p>
+ * GC 可能一次回收成千上万个引用, {@link #INLINE} 下由下一个访问 map 的线程全部清理, 其余两种方式把这部分开销
+ * 分摊到多次操作或交给后台线程. 未清理的条目 {@code get} 返回 null, 但仍计入 {@code size()}.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 17:50
+ * @since 2023.1.1
+ */
+public enum ReferencePurgeMode {
+    /** 每次写操作清理全部已回收的引用 */
+    INLINE,
+    /** 每次写操作最多清理固定数量的引用 */
+    AMORTIZED,
+    /** map 操作不清理, 由共享的守护线程定期清理 */
+    BACKGROUND
+}
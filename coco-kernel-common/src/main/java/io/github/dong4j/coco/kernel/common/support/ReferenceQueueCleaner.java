@@ -0,0 +1,98 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Description: 所有 {@link ReferencePurgeMode#BACKGROUND} 模式的 map 共享的清理线程 </p>
+ * <p>
+ * 线程在第一个 map 注册时启动, 每 {@value #INTERVAL_MILLIS} ms 清理一遍所有仍然存活的 map; 只以弱引用持有 map,
+ * 不影响 map 本身被回收.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 17:50
+ * @since 2023.1.1
+ */
+final class ReferenceQueueCleaner implements Runnable {
+    /** 两次清理的间隔 */
+    private static final long INTERVAL_MILLIS = 100L;
+    /** 已注册的 map */
+    private static final ConcurrentLinkedQueue<WeakReference<ConcurrentRefValueHashMap<?, ?>>> MAPS =
+        new ConcurrentLinkedQueue<>();
+
+    /**
+     * Reference queue cleaner
+     *
+     * @since 2023.1.1
+     */
+    private ReferenceQueueCleaner() {
+    }
+
+    /**
+     * 注册一个 map, 必要时启动清理线程
+     *
+     * @param map map
+     * @since 2023.1.1
+     */
+    static void register(ConcurrentRefValueHashMap<?, ?> map) {
+        MAPS.add(new WeakReference<>(map));
+        Holder.start();
+    }
+
+    /**
+     * Run
+     *
+     * @since 2023.1.1
+     */
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (Iterator<WeakReference<ConcurrentRefValueHashMap<?, ?>>> it = MAPS.iterator(); it.hasNext(); ) {
+                ConcurrentRefValueHashMap<?, ?> map = it.next().get();
+                if (map == null) {
+                    it.remove();
+                } else {
+                    map.drain(Integer.MAX_VALUE);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Description: 延迟到第一次注册时才创建线程 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 17:50
+     * @since 2023.1.1
+     */
+    private static final class Holder {
+        /** Thread */
+        private static final Thread THREAD = new NamedThreadFactory("ref-value-cleaner", true)
+            .newThread(new ReferenceQueueCleaner());
+
+        static {
+            THREAD.start();
+        }
+
+        /**
+         * 触发类初始化
+         *
+         * @since 2023.1.1
+         */
+        private static void start() {
+            // 类初始化时已经启动
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package io.github.dong4j.coco.kernel.common.support;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.NumberFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>Description: 可以常驻生产环境的轻量级耗时统计, 作为 {@link TraceWatch} 的替代 </p>
+ * <p>
+ * {@link TraceWatch} 每个任务都会创建 {@code TaskInfo} 并保存在列表中, 只适合单次排查; 这里按任务名注册一个 {@link SpanTimer},
+ * 耗时直接累加到该任务名的 {@link LatencyHistogram} 中, 计时只使用 {@link System#nanoTime()}, 不创建任何对象:
+ * <pre>{@code
+ * private static final SpanTimer LOAD = SpanTimer.of("config.load");
+ *
+ * long start = LOAD.start();
+ * try {
+ *     ...
+ * } finally {
+ *     LOAD.stop(start);
+ * }
+ * }</pre>
+ * 无法传递开始时间时 (例如拦截器的前后两个回调) 可以使用 {@link #enter()} / {@link #exit()},
+ * 开始时间保存在每个线程预先分配的槽位栈中. 直方图按线程分段, 避免多线程同时记录时在同一组原子变量上竞争,
+ * 读取时再合并; 通过 {@link #snapshot()} 采集指标或 {@link #dump()} 输出文本.
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 19:20
+ * @since 2023.1.1
+ */
+public final class SpanTimer {
+    /** 每个线程可嵌套的 {@link #enter()} 深度, 超出部分不计时 */
+    public static final int MAX_DEPTH = 32;
+    /** 每个计时器的直方图分段数, 取不小于 CPU 核数的 2 的幂, 最多 8 段 */
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+    /** 所有计时器, 按任务名注册 */
+    private static final ConcurrentMap<String, SpanTimer> TIMERS = new ConcurrentHashMap<>();
+    /** 每个线程的开始时间槽位 */
+    private static final ThreadLocal<Slots> SLOTS = ThreadLocal.withInitial(Slots::new);
+
+    /** Name */
+    private final String name;
+    /** 分段的直方图 */
+    private final LatencyHistogram[] stripes;
+
+    /**
+     * Span timer
+     *
+     * @param name name
+     * @since 2023.1.1
+     */
+    private SpanTimer(String name) {
+        this.name = name;
+        this.stripes = new LatencyHistogram[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * 获取任务名对应的计时器, 同名返回同一个实例, 建议保存在静态常量中
+     *
+     * @param name name
+     * @return the span timer
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static SpanTimer of(@NotNull String name) {
+        SpanTimer timer = TIMERS.get(name);
+        return timer != null ? timer : TIMERS.computeIfAbsent(name, SpanTimer::new);
+    }
+
+    /**
+     * 开始计时
+     *
+     * @return 开始时间, 传给 {@link #stop(long)}
+     * @since 2023.1.1
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 结束计时并记录耗时
+     *
+     * @param startNanos {@link #start()} 的返回值
+     * @return 本次耗时 (纳秒)
+     * @since 2023.1.1
+     */
+    public long stop(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        this.record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * 直接记录一次耗时
+     *
+     * @param nanos nanos
+     * @since 2023.1.1
+     */
+    public void record(long nanos) {
+        this.stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)].record(nanos);
+    }
+
+    /**
+     * 开始计时, 开始时间压入当前线程的槽位栈, 必须在同一线程中以 {@link #exit()} 结束
+     *
+     * @since 2023.1.1
+     */
+    public void enter() {
+        Slots slots = SLOTS.get();
+        int depth = slots.depth++;
+        if (depth < MAX_DEPTH) {
+            slots.starts[depth] = System.nanoTime();
+        }
+    }
+
+    /**
+     * 结束当前线程最近一次 {@link #enter()} 的计时并记录, 没有对应的 {@link #enter()} 时忽略
+     *
+     * @since 2023.1.1
+     */
+    public void exit() {
+        Slots slots = SLOTS.get();
+        if (slots.depth <= 0) {
+            return;
+        }
+        int depth = --slots.depth;
+        if (depth < MAX_DEPTH) {
+            this.record(System.nanoTime() - slots.starts[depth]);
+        }
+    }
+
+    /**
+     * 有返回值调用
+     *
+     * @param <T>      parameter
+     * @param supplier supplier
+     * @return the t
+     * @since 2023.1.1
+     */
+    public <T> T time(@NotNull Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            this.stop(start);
+        }
+    }
+
+    /**
+     * 无返回值调用
+     *
+     * @param function function
+     * @since 2023.1.1
+     */
+    public void time(@NotNull Runnable function) {
+        long start = System.nanoTime();
+        try {
+            function.run();
+        } finally {
+            this.stop(start);
+        }
+    }
+
+    /**
+     * Name
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * 合并各分段后的直方图 (纳秒), 每次调用返回新的副本
+     *
+     * @return the latency histogram
+     * @since 2023.1.1
+     */
+    @NotNull
+    public LatencyHistogram histogram() {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram stripe : this.stripes) {
+            merged.add(stripe);
+        }
+        return merged;
+    }
+
+    /**
+     * 清空计数, 与并发的记录之间不保证原子性
+     *
+     * @since 2023.1.1
+     */
+    public void reset() {
+        for (LatencyHistogram stripe : this.stripes) {
+            stripe.reset();
+        }
+    }
+
+    /**
+     * 所有计时器的直方图, 按任务名排序, 用于指标采集
+     *
+     * @return the map
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static Map<String, LatencyHistogram> snapshot() {
+        Map<String, LatencyHistogram> snapshot = new TreeMap<>();
+        TIMERS.forEach((name, timer) -> snapshot.put(name, timer.histogram()));
+        return snapshot;
+    }
+
+    /**
+     * 清空所有计时器的计数, 通常在每次采集后调用以得到区间内的分布
+     *
+     * @since 2023.1.1
+     */
+    public static void resetAll() {
+        TIMERS.values().forEach(SpanTimer::reset);
+    }
+
+    /**
+     * 以 {@link TraceWatch#prettyPrint()} 类似的格式输出所有计时器, 时间单位为微秒
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static String dump() {
+        StringBuilder sb = new StringBuilder("SpanTimer: ").append(TIMERS.size()).append(" tasks\n");
+        sb.append("----------------------------------------------------------------------------\n");
+        sb.append("count        mean(us)   p50(us)    p99(us)    max(us)    Task name\n");
+        sb.append("----------------------------------------------------------------------------\n");
+        NumberFormat nf = NumberFormat.getNumberInstance();
+        nf.setMaximumFractionDigits(1);
+        nf.setGroupingUsed(false);
+        double micros = TimeUnit.MICROSECONDS.toNanos(1);
+        snapshot().forEach((name, histogram) -> {
+            pad(sb, Long.toString(histogram.count()), 13);
+            pad(sb, nf.format(histogram.mean() / micros), 11);
+            pad(sb, nf.format(histogram.valueAtPercentile(50, TimeUnit.MICROSECONDS)), 11);
+            pad(sb, nf.format(histogram.valueAtPercentile(99, TimeUnit.MICROSECONDS)), 11);
+            pad(sb, nf.format(histogram.max() / micros), 11);
+            sb.append(name).append('\n');
+        });
+        return sb.toString();
+    }
+
+    /**
+     * 左对齐写入并补齐空格
+     *
+     * @param sb    sb
+     * @param value value
+     * @param width width
+     * @since 2023.1.1
+     */
+    private static void pad(StringBuilder sb, String value, int width) {
+        sb.append(value);
+        for (int i = value.length(); i < width; i++) {
+            sb.append(' ');
+        }
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "SpanTimer{name=" + this.name + ", " + this.histogram() + '}';
+    }
+
+    /**
+     * <p>Description: 每个线程预先分配的开始时间槽位 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 19:20
+     * @since 2023.1.1
+     */
+    private static final class Slots {
+        /** Starts */
+        private final long[] starts = new long[MAX_DEPTH];
+        /** 当前深度, 可能超过 {@link #MAX_DEPTH} */
+        private int depth;
+    }
+}
@@ -49,4 +49,28 @@ public class TraceWatchHolder {
             traceWatch.stop();
         }
     }
+
+    /**
+     * 有返回值调用, 耗时累加到 {@link SpanTimer} 的直方图中, 可以常驻生产环境
+     *
+     * @param <T>      parameter
+     * @param timer    timer
+     * @param supplier supplier
+     * @return the t
+     * @since 2023.1.1
+     */
+    public static <T> T run(SpanTimer timer, Supplier<T> supplier) {
+        return timer.time(supplier);
+    }
+
+    /**
+     * 无返回值调用, 耗时累加到 {@link SpanTimer} 的直方图中, 可以常驻生产环境
+     *
+     * @param timer    timer
+     * @param function function
+     * @since 2023.1.1
+     */
+    public static void run(SpanTimer timer, Runnable function) {
+        timer.time(function);
+    }
 }
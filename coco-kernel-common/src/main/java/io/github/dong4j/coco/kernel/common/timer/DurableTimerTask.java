@@ -0,0 +1,26 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+/**
+ * A task which is executed when a timeout of a {@link DurableWheelTimer} expires.
+ * <p>
+ * Unlike {@link TimerTask} the task is not given per timeout: a durable timeout only consists of a key and a
+ * payload, which is all that survives a restart, and the same task handles all of them.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 16:20
+ * @since 2023.1.1
+ */
+@FunctionalInterface
+public interface DurableTimerTask {
+
+    /**
+     * Executed after the delay of the timeout with this {@code key}, also when the delay passed while the
+     * application was down.  A crash while this method runs executes it again after the restart.
+     *
+     * @param key     the key the timeout was scheduled with
+     * @param payload the payload the timeout was scheduled with
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    void run(String key, byte[] payload) throws Exception;
+}
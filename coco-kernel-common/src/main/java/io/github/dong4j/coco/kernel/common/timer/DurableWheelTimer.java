@@ -0,0 +1,476 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timeouts that survive a restart of the application.
+ * <p>
+ * Every timeout is identified by a key (an order id, a session id...) and carries an opaque payload.
+ * Scheduling, cancellation and expiry are appended to a memory-mapped {@link TimerJournal}; when the timer is
+ * created again on the same file it replays the journal and schedules every timeout which neither expired nor
+ * was cancelled, timeouts whose deadline passed while the application was down expire right away.  The
+ * in-memory scheduling is left to the given {@link Timer}, usually a shared {@link HashedWheelTimer}.
+ * <p>
+ * Deadlines are wall clock times, expiry is at-least-once: the expiry is journaled after the
+ * {@link DurableTimerTask} returned, a crash while it runs executes it again after the restart.
+ * Scheduling a key that is still pending replaces its timeout.
+ * <p>
+ * The journal is compacted, i.e. rewritten with only the pending timeouts, whenever it runs full, so its size
+ * stays at the configured capacity unless the pending timeouts alone need more.
+ *
+ * <pre>{@code
+ * DurableWheelTimer orderExpiry = new DurableWheelTimer(timer, Paths.get("data/order-expiry.journal"),
+ *     (orderId, payload) -> orderService.expire(orderId));
+ * orderExpiry.newTimeout(orderId, null, 30, TimeUnit.MINUTES);
+ * }</pre>
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 16:20
+ * @since 2023.1.1
+ */
+public class DurableWheelTimer implements Closeable {
+
+    /** Default journal capacity, 64 MB */
+    public static final int DEFAULT_JOURNAL_CAPACITY = 64 << 20;
+
+    /** logger */
+    private static final Logger logger = LoggerFactory.getLogger(DurableWheelTimer.class);
+
+    /** Timer */
+    private final Timer timer;
+    /** Task */
+    private final DurableTimerTask task;
+    /** Journal */
+    private final TimerJournal journal;
+    /** Pending timeouts by key, including those whose task is running. Guarded by this */
+    private final Map<String, DurableTimeout> pending = new HashMap<>();
+    /** Number of timeouts scheduled again from the journal when this timer was created */
+    private final int recoveredTimeouts;
+
+    /** Id of the last record. Guarded by this */
+    private long lastId;
+    /** Closed. Guarded by this */
+    private boolean closed;
+
+    /**
+     * Creates a durable timer with a journal of {@link #DEFAULT_JOURNAL_CAPACITY} that is not synced on every
+     * write, and recovers the pending timeouts of {@code journalFile}.
+     *
+     * @param timer       the timer that schedules the timeouts in memory
+     * @param journalFile journal file, created when it does not exist
+     * @param task        the task executed for every expired timeout
+     * @throws IOException if the journal can not be opened
+     * @since 2023.1.1
+     */
+    public DurableWheelTimer(Timer timer, Path journalFile, DurableTimerTask task) throws IOException {
+        this(timer, journalFile, DEFAULT_JOURNAL_CAPACITY, false, task);
+    }
+
+    /**
+     * Creates a durable timer and recovers the pending timeouts of {@code journalFile}.
+     *
+     * @param timer           the timer that schedules the timeouts in memory
+     * @param journalFile     journal file, created when it does not exist
+     * @param journalCapacity size in bytes the journal is mapped with and compacted to
+     * @param syncEachWrite   force every journal write to the storage device, so the timeouts also survive a
+     *                        crash of the host and not only of the process. Much slower.
+     * @param task            the task executed for every expired timeout
+     * @throws NullPointerException     if either of {@code timer}, {@code journalFile} and {@code task} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if {@code journalCapacity} is too small to hold a single record
+     * @throws IOException              if the journal can not be opened
+     * @since 2023.1.1
+     */
+    public DurableWheelTimer(Timer timer, Path journalFile, int journalCapacity, boolean syncEachWrite,
+                             DurableTimerTask task) throws IOException {
+        if (timer == null) {
+            throw new NullPointerException("timer");
+        }
+        if (journalFile == null) {
+            throw new NullPointerException("journalFile");
+        }
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        this.timer = timer;
+        this.task = task;
+        this.journal = new TimerJournal(journalFile, journalCapacity, syncEachWrite);
+        this.recoveredTimeouts = this.recover();
+    }
+
+    /**
+     * Schedule every timeout left in the journal and compact it
+     *
+     * @return the number of recovered timeouts
+     * @throws IOException io exception
+     * @since 2023.1.1
+     */
+    private synchronized int recover() throws IOException {
+        this.lastId = this.journal.lastId();
+        Collection<TimerJournal.Record> records = this.journal.recovered();
+        long now = System.currentTimeMillis();
+        for (TimerJournal.Record record : records) {
+            DurableTimeout timeout = new DurableTimeout(record);
+            try {
+                timeout.timeout = this.timer.newTimeout(timeout, Math.max(0, record.deadline - now), TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // Leave the journal untouched, so the next timer created on it recovers every record again.
+                for (DurableTimeout scheduled : this.pending.values()) {
+                    scheduled.state = DurableTimeout.ST_CANCELLED;
+                    scheduled.timeout.cancel();
+                }
+                this.pending.clear();
+                this.journal.close();
+                throw e;
+            }
+            this.pending.put(record.name, timeout);
+        }
+        // Drop the completed records right away, the journal starts clean after every restart.
+        this.journal.compact(this.pendingRecords(), 0);
+        if (!records.isEmpty() && logger.isInfoEnabled()) {
+            logger.info("Recovered {} durable timeouts from the journal", records.size());
+        }
+        return records.size();
+    }
+
+    /**
+     * Schedules the timeout of {@code key}, replacing its pending timeout if there is one.
+     *
+     * @param key     key
+     * @param payload payload handed to the {@link DurableTimerTask}, may be {@code null}. Must not be modified
+     *                afterwards
+     * @param delay   delay
+     * @param unit    unit
+     * @return a handle which is associated with the specified task
+     * @throws IllegalStateException if this timer was closed
+     * @throws UncheckedIOException  if the journal can not be written
+     * @throws java.util.concurrent.RejectedExecutionException if the wrapped timer rejects the timeout, the
+     *                               pending timeout of {@code key} is kept in that case
+     * @since 2023.1.1
+     */
+    public synchronized Timeout newTimeout(String key, byte[] payload, long delay, TimeUnit unit) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        if (this.closed) {
+            throw new IllegalStateException("cannot be started once closed");
+        }
+        long deadline = System.currentTimeMillis() + unit.toMillis(delay);
+        // Guard against overflow.
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        DurableTimeout timeout = new DurableTimeout(new TimerJournal.Record(++this.lastId, key, deadline, payload));
+        // Schedule first: if the wrapped timer rejects the timeout, neither the journal nor the previous
+        // timeout of the key was touched.  It can not expire before we return as expire() needs our lock.
+        timeout.timeout = this.timer.newTimeout(timeout, delay, unit);
+        try {
+            this.append(TimerJournal.SCHEDULE, timeout.record);
+        } catch (RuntimeException e) {
+            timeout.state = DurableTimeout.ST_CANCELLED;
+            timeout.timeout.cancel();
+            throw e;
+        }
+
+        DurableTimeout previous = this.pending.put(key, timeout);
+        if (previous != null && previous.state == DurableTimeout.ST_INIT) {
+            // Replaced, the new schedule record supersedes the old one in the journal.
+            previous.state = DurableTimeout.ST_CANCELLED;
+            previous.timeout.cancel();
+        }
+        return timeout;
+    }
+
+    /**
+     * Cancels the pending timeout of {@code key}.
+     *
+     * @param key key
+     * @return {@code true} if a timeout was pending and did not expire yet
+     * @since 2023.1.1
+     */
+    public synchronized boolean cancel(String key) {
+        DurableTimeout timeout = this.pending.get(key);
+        return timeout != null && this.cancel(timeout);
+    }
+
+    /**
+     * Returns the number of timeouts which were scheduled and did neither complete nor get cancelled.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public synchronized int pendingTimeouts() {
+        return this.pending.size();
+    }
+
+    /**
+     * Returns the number of timeouts recovered from the journal when this timer was created.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int recoveredTimeouts() {
+        return this.recoveredTimeouts;
+    }
+
+    /**
+     * Returns the number of bytes written to the journal since it was last compacted.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public synchronized int journalSize() {
+        return this.journal.size();
+    }
+
+    /**
+     * Returns the size in bytes of the journal mapping.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public synchronized int journalCapacity() {
+        return this.journal.capacity();
+    }
+
+    /**
+     * Rewrites the journal with only the pending timeouts.  Happens automatically whenever it runs full.
+     *
+     * @throws IOException io exception
+     * @since 2023.1.1
+     */
+    public synchronized void compact() throws IOException {
+        this.journal.compact(this.pendingRecords(), 0);
+    }
+
+    /**
+     * Cancels the in-memory timeouts of this timer and closes the journal.  The pending timeouts are not
+     * journaled as cancelled: they are recovered by the next timer created on the same journal.  The shared
+     * {@link Timer} is not stopped.
+     *
+     * @throws IOException io exception
+     * @since 2023.1.1
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        for (DurableTimeout timeout : this.pending.values()) {
+            timeout.timeout.cancel();
+        }
+        this.journal.close();
+    }
+
+    /**
+     * Cancel
+     *
+     * @param timeout timeout
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    private synchronized boolean cancel(DurableTimeout timeout) {
+        if (this.closed || timeout.state != DurableTimeout.ST_INIT || this.pending.get(timeout.record.name) != timeout) {
+            return false;
+        }
+        timeout.state = DurableTimeout.ST_CANCELLED;
+        this.pending.remove(timeout.record.name);
+        timeout.timeout.cancel();
+        this.append(TimerJournal.CANCEL, timeout.record);
+        return true;
+    }
+
+    /**
+     * Run the task of an expired timeout, the expiry is journaled once it returned.
+     *
+     * @param timeout timeout
+     * @since 2023.1.1
+     */
+    private void expire(DurableTimeout timeout) {
+        synchronized (this) {
+            if (this.closed || timeout.state != DurableTimeout.ST_INIT) {
+                return;
+            }
+            timeout.state = DurableTimeout.ST_EXPIRED;
+        }
+        try {
+            this.task.run(timeout.record.name, timeout.record.payload);
+        } catch (Throwable t) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("An exception was thrown by " + DurableTimerTask.class.getSimpleName() + '.', t);
+            }
+        } finally {
+            synchronized (this) {
+                // Still pending until now, so a compaction in the meantime kept its schedule record.
+                this.pending.remove(timeout.record.name, timeout);
+                if (!this.closed) {
+                    this.append(TimerJournal.EXPIRE, timeout.record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a record, compacting the journal first when it is full
+     *
+     * @param type   type
+     * @param record record
+     * @since 2023.1.1
+     */
+    private void append(byte type, TimerJournal.Record record) {
+        if (this.journal.append(type, record)) {
+            return;
+        }
+        try {
+            this.journal.compact(this.pendingRecords(), TimerJournal.sizeOf(record));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact the timer journal", e);
+        }
+        if (!this.journal.append(type, record)) {
+            // compact() keeps room for the record.
+            throw new IllegalStateException("timer journal full after compaction");
+        }
+    }
+
+    /**
+     * Pending records
+     *
+     * @return the list
+     * @since 2023.1.1
+     */
+    private List<TimerJournal.Record> pendingRecords() {
+        List<TimerJournal.Record> records = new ArrayList<>(this.pending.size());
+        for (DurableTimeout timeout : this.pending.values()) {
+            records.add(timeout.record);
+        }
+        return records;
+    }
+
+    /**
+     * <p>Description: Handle of a durable timeout, and the task scheduled on the in-memory timer </p>
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 16:20
+     * @since 2023.1.1
+     */
+    private final class DurableTimeout implements Timeout, TimerTask {
+
+        /** ST_INIT */
+        private static final int ST_INIT = 0;
+        /** ST_CANCELLED */
+        private static final int ST_CANCELLED = 1;
+        /** ST_EXPIRED */
+        private static final int ST_EXPIRED = 2;
+
+        /** Record */
+        private final TimerJournal.Record record;
+        /** The timeout of the in-memory timer. Guarded by the durable timer */
+        private Timeout timeout;
+        /** State, written while holding the lock of the durable timer */
+        private volatile int state = ST_INIT;
+
+        /**
+         * Durable timeout
+         *
+         * @param record record
+         * @since 2023.1.1
+         */
+        DurableTimeout(TimerJournal.Record record) {
+            this.record = record;
+        }
+
+        /**
+         * Run
+         *
+         * @param ignored ignored
+         * @since 2023.1.1
+         */
+        @Override
+        public void run(Timeout ignored) {
+            DurableWheelTimer.this.expire(this);
+        }
+
+        /**
+         * Timer
+         *
+         * @return the timer
+         * @since 2023.1.1
+         */
+        @Override
+        public Timer timer() {
+            return DurableWheelTimer.this.timer;
+        }
+
+        /**
+         * Task
+         *
+         * @return the timer task
+         * @since 2023.1.1
+         */
+        @Override
+        public TimerTask task() {
+            return this;
+        }
+
+        /**
+         * Is expired
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isExpired() {
+            return this.state == ST_EXPIRED;
+        }
+
+        /**
+         * Is cancelled
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isCancelled() {
+            return this.state == ST_CANCELLED;
+        }
+
+        /**
+         * Cancel
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean cancel() {
+            return DurableWheelTimer.this.cancel(this);
+        }
+
+        /**
+         * To string
+         *
+         * @return the string
+         * @since 2023.1.1
+         */
+        @Override
+        public String toString() {
+            return "DurableTimeout(key: " + this.record.name + ", deadline: " + this.record.deadline
+                   + (this.isCancelled() ? ", cancelled" : this.isExpired() ? ", expired" : "") + ')';
+        }
+    }
+}
@@ -19,12 +19,15 @@ package io.github.dong4j.coco.kernel.common.timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Locale;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
@@ -34,6 +37,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import cn.hutool.core.util.ClassUtil;
 
@@ -61,6 +67,27 @@ import cn.hutool.core.util.ClassUtil;
  * (i.e. the size of the wheel) is 512.  You could specify a larger value
  * if you are going to schedule a lot of timeouts.
  *
+ * <h3>Tick Wait Strategy</h3>
+ * <p>
+ * The worker sleeps between ticks with {@link Thread#sleep(long)}, which rounds up to whole milliseconds.
+ * For sub-millisecond tick durations choose another {@link TickWaitStrategy} in the constructor, e.g.
+ * {@link TickWaitStrategy#PARK} or, on a dedicated core, {@link TickWaitStrategy#BUSY_SPIN}.
+ *
+ * <h3>Task Executor</h3>
+ * <p>
+ * By default expired {@link TimerTask}s run on the worker thread, so a slow task delays every
+ * other timeout of the wheel.  Pass a task {@link Executor} to the constructor to hand expired tasks
+ * off to it instead, {@link #lastTickLateness()} and {@link #executingTasks()} tell whether the
+ * worker or the executor falls behind.
+ *
+ * <h3>Timeout Pool</h3>
+ * <p>
+ * A positive {@code timeoutPoolSize} in the constructor recycles the nodes of one-time timeouts once they
+ * expired or their cancellation was processed, and scheduling then only allocates a small handle.  Every
+ * recycle bumps the generation of the node: a handle kept after its timeout completed still reports the
+ * final state and its {@link Timeout#cancel()} does nothing, it can never reach the timeout that reuses
+ * the node.  Recurring timeouts are never pooled, they already reuse their node for every execution.
+ *
  * <h3>Do not create many instances.</h3>
  * <p>
  * {@link HashedWheelTimer} creates a new thread whenever it is instantiated and
@@ -99,6 +126,8 @@ public class HashedWheelTimer implements Timer {
     private static final AtomicBoolean WARNED_TOO_MANY_INSTANCES = new AtomicBoolean();
     /** INSTANCE_COUNT_LIMIT */
     private static final int INSTANCE_COUNT_LIMIT = 64;
+    /** Runs the task on the calling thread */
+    private static final Executor IMMEDIATE_EXECUTOR = Runnable::run;
     /** WORKER_STATE_UPDATER */
     private static final AtomicIntegerFieldUpdater<HashedWheelTimer> WORKER_STATE_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimer.class, "workerState");
@@ -129,14 +158,31 @@ public class HashedWheelTimer implements Timer {
     private final int mask;
     /** Start time initialized */
     private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
-    /** Timeouts */
-    private final Queue<HashedWheelTimeout> timeouts = new LinkedBlockingQueue<>();
-    /** Cancelled timeouts */
-    private final Queue<HashedWheelTimeout> cancelledTimeouts = new LinkedBlockingQueue<>();
+    /** Timeouts, linked through {@link HashedWheelTimeout#queueNext} */
+    private final TimeoutQueue timeouts = new TimeoutQueue(TimeoutQueue.QUEUE_NEXT);
+    /** Timeouts scheduled together through {@code newTimeouts}, one queue entry per batch */
+    private final Queue<HashedWheelTimeout[]> timeoutBatches = new LinkedBlockingQueue<>();
+    /** Cancelled timeouts, linked through {@link HashedWheelTimeout#cancelNext} */
+    private final TimeoutQueue cancelledTimeouts = new TimeoutQueue(TimeoutQueue.CANCEL_NEXT);
+    /** Number of timeouts in {@link #cancelledTimeouts} */
+    private final AtomicInteger cancelledBacklog = new AtomicInteger();
+    /** Recycled one-time timeouts, {@code null} when pooling is off */
+    private final TimeoutPool pool;
     /** Pending timeouts */
     private final AtomicLong pendingTimeouts = new AtomicLong(0);
     /** Max pending timeouts */
     private final long maxPendingTimeouts;
+    /** Executor that runs expired tasks */
+    private final Executor taskExecutor;
+    /** How the worker waits for the next tick */
+    private final TickWaitStrategy waitStrategy;
+    /** Tasks handed to the task executor which did not finish yet */
+    private final AtomicLong executingTasks = new AtomicLong(0);
+
+    /** How late the worker started the last tick, in nanoseconds */
+    private volatile long lastTickLateness;
+    /** Metrics */
+    private final TimerMetrics metrics = new TimerMetrics();
 
     /** Start time */
     private volatile long startTime;
@@ -250,10 +296,117 @@ public class HashedWheelTimer implements Timer {
         ThreadFactory threadFactory,
         long tickDuration, TimeUnit unit, int ticksPerWheel,
         long maxPendingTimeouts) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, maxPendingTimeouts, IMMEDIATE_EXECUTOR);
+    }
+
+    /**
+     * Creates a new timer whose worker waits for the next tick with the given strategy.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a background {@link Thread} which is
+     *                           dedicated to {@link TimerTask} execution.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of the wheel
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to {@code newTimeout}
+     *                           will result in {@link RejectedExecutionException} being thrown. No maximum
+     *                           pending timeouts limit is assumed if this value is 0 or negative.
+     * @param waitStrategy       how the worker waits for the next tick
+     * @throws NullPointerException     if either of {@code threadFactory}, {@code unit} and {@code waitStrategy}
+     *                                  is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code ticksPerWheel} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer(
+        ThreadFactory threadFactory,
+        long tickDuration, TimeUnit unit, int ticksPerWheel,
+        long maxPendingTimeouts, TickWaitStrategy waitStrategy) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, maxPendingTimeouts, IMMEDIATE_EXECUTOR, waitStrategy);
+    }
+
+    /**
+     * Creates a new timer whose expired tasks are run by {@code taskExecutor} instead of the worker thread.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a background {@link Thread} which is
+     *                           dedicated to wheel processing.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of the wheel
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to {@code newTimeout}
+     *                           will result in {@link RejectedExecutionException} being thrown. No maximum
+     *                           pending timeouts limit is assumed if this value is 0 or negative.
+     * @param taskExecutor       the {@link Executor} that is used to execute the submitted {@link TimerTask}s,
+     *                           e.g. a virtual-thread-per-task executor or a bounded pool.
+     * @throws NullPointerException     if either of {@code threadFactory}, {@code unit} and {@code taskExecutor}
+     *                                  is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code ticksPerWheel} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer(
+        ThreadFactory threadFactory,
+        long tickDuration, TimeUnit unit, int ticksPerWheel,
+        long maxPendingTimeouts, Executor taskExecutor) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, maxPendingTimeouts, taskExecutor, TickWaitStrategy.SLEEP);
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a background {@link Thread} which is
+     *                           dedicated to wheel processing.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of the wheel
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to {@code newTimeout}
+     *                           will result in {@link RejectedExecutionException} being thrown. No maximum
+     *                           pending timeouts limit is assumed if this value is 0 or negative.
+     * @param taskExecutor       the {@link Executor} that is used to execute the submitted {@link TimerTask}s
+     * @param waitStrategy       how the worker waits for the next tick
+     * @throws NullPointerException     if either of {@code threadFactory}, {@code unit}, {@code taskExecutor} and
+     *                                  {@code waitStrategy} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code ticksPerWheel} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer(
+        ThreadFactory threadFactory,
+        long tickDuration, TimeUnit unit, int ticksPerWheel,
+        long maxPendingTimeouts, Executor taskExecutor, TickWaitStrategy waitStrategy) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, maxPendingTimeouts, taskExecutor, waitStrategy, 0);
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a background {@link Thread} which is
+     *                           dedicated to wheel processing.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of the wheel
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to {@code newTimeout}
+     *                           will result in {@link RejectedExecutionException} being thrown. No maximum
+     *                           pending timeouts limit is assumed if this value is 0 or negative.
+     * @param taskExecutor       the {@link Executor} that is used to execute the submitted {@link TimerTask}s
+     * @param waitStrategy       how the worker waits for the next tick
+     * @param timeoutPoolSize    the maximum number of recycled timeouts kept for reuse, pooling is disabled
+     *                           if this value is 0 or negative.
+     * @throws NullPointerException     if either of {@code threadFactory}, {@code unit}, {@code taskExecutor} and
+     *                                  {@code waitStrategy} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration} and {@code ticksPerWheel} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer(
+        ThreadFactory threadFactory,
+        long tickDuration, TimeUnit unit, int ticksPerWheel,
+        long maxPendingTimeouts, Executor taskExecutor, TickWaitStrategy waitStrategy, int timeoutPoolSize) {
 
         if (threadFactory == null) {
             throw new NullPointerException("threadFactory");
         }
+        if (taskExecutor == null) {
+            throw new NullPointerException("taskExecutor");
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException("waitStrategy");
+        }
         if (unit == null) {
             throw new NullPointerException("unit");
         }
@@ -280,6 +433,9 @@ public class HashedWheelTimer implements Timer {
         workerThread = threadFactory.newThread(worker);
 
         this.maxPendingTimeouts = maxPendingTimeouts;
+        this.taskExecutor = taskExecutor;
+        this.waitStrategy = waitStrategy;
+        this.pool = timeoutPoolSize > 0 ? new TimeoutPool(timeoutPoolSize) : null;
 
         if (INSTANCE_COUNTER.incrementAndGet() > INSTANCE_COUNT_LIMIT &&
             WARNED_TOO_MANY_INSTANCES.compareAndSet(false, true)) {
@@ -446,6 +602,60 @@ public class HashedWheelTimer implements Timer {
      */
     @Override
     public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        return newTimeout(task, delay, unit, 0);
+    }
+
+    /**
+     * Recurring timeouts are re-armed by reusing the same {@link Timeout}: when the task ran on the worker
+     * thread it goes straight back into the wheel, when it ran on the task executor it goes through the
+     * timeout queue once more.
+     *
+     * @param task         task
+     * @param initialDelay initial delay
+     * @param period       period
+     * @param unit         unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout scheduleAtFixedRate(TimerTask task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0: " + period);
+        }
+        return newTimeout(task, initialDelay, unit, unit.toNanos(period));
+    }
+
+    /**
+     * Recurring timeouts are re-armed by reusing the same {@link Timeout}: when the task ran on the worker
+     * thread it goes straight back into the wheel, when it ran on the task executor it goes through the
+     * timeout queue once more.
+     *
+     * @param task         task
+     * @param initialDelay initial delay
+     * @param delay        delay
+     * @param unit         unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout scheduleWithFixedDelay(TimerTask task, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        return newTimeout(task, initialDelay, unit, -unit.toNanos(delay));
+    }
+
+    /**
+     * New timeout
+     *
+     * @param task   task
+     * @param delay  delay
+     * @param unit   unit
+     * @param period 0 for a one-time timeout, &gt; 0 for fixed rate, &lt; 0 for fixed delay, in nanoseconds
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    private Timeout newTimeout(TimerTask task, long delay, TimeUnit unit, long period) {
         if (task == null) {
             throw new NullPointerException("task");
         }
@@ -472,11 +682,133 @@ public class HashedWheelTimer implements Timer {
         if (delay > 0 && deadline < 0) {
             deadline = Long.MAX_VALUE;
         }
-        HashedWheelTimeout timeout = new HashedWheelTimeout(this, task, deadline);
-        timeouts.add(timeout);
+        HashedWheelTimeout timeout = newTimeoutNode(task, deadline, period);
+        timeouts.offer(timeout);
+        return timeout.handle();
+    }
+
+    /**
+     * Take a recycled node from the pool when possible, recurring timeouts always get a fresh one.
+     *
+     * @param task     task
+     * @param deadline deadline
+     * @param period   period
+     * @return the hashed wheel timeout
+     * @since 2023.1.1
+     */
+    private HashedWheelTimeout newTimeoutNode(TimerTask task, long deadline, long period) {
+        HashedWheelTimeout timeout;
+        if (pool == null || period != 0) {
+            timeout = new HashedWheelTimeout(this, task, deadline, period);
+        } else {
+            timeout = pool.acquire();
+            if (timeout == null) {
+                timeout = new HashedWheelTimeout(this, task, deadline, 0);
+            } else {
+                timeout.task = task;
+                timeout.deadline = deadline;
+            }
+            timeout.handle = new PooledTimeout(timeout, timeout.generation(), task);
+        }
+        // Published to the worker together with the node by the queue.
+        timeout.queued = true;
         return timeout;
     }
 
+    /**
+     * New timeouts
+     *
+     * @param tasks tasks
+     * @param delay delay
+     * @param unit  unit
+     * @return the list
+     * @since 2023.1.1
+     */
+    @Override
+    public List<Timeout> newTimeouts(Collection<? extends TimerTask> tasks, long delay, TimeUnit unit) {
+        if (tasks == null) {
+            throw new NullPointerException("tasks");
+        }
+        return newTimeouts(tasks.toArray(new TimerTask[0]), null, delay, unit);
+    }
+
+    /**
+     * New timeouts
+     *
+     * @param tasks  tasks
+     * @param delays delays
+     * @param unit   unit
+     * @return the list
+     * @since 2023.1.1
+     */
+    @Override
+    public List<Timeout> newTimeouts(List<? extends TimerTask> tasks, long[] delays, TimeUnit unit) {
+        if (tasks == null) {
+            throw new NullPointerException("tasks");
+        }
+        if (delays == null) {
+            throw new NullPointerException("delays");
+        }
+        if (tasks.size() != delays.length) {
+            throw new IllegalArgumentException("tasks.size() (" + tasks.size() + ") != delays.length ("
+                                               + delays.length + ")");
+        }
+        return newTimeouts(tasks.toArray(new TimerTask[0]), delays, 0, unit);
+    }
+
+    /**
+     * Reserve room for the whole batch with a single update of the pending counter and hand it to the worker
+     * as a single queue entry.
+     *
+     * @param tasks  tasks
+     * @param delays delays, or {@code null} to use {@code delay} for every task
+     * @param delay  delay
+     * @param unit   unit
+     * @return the list
+     * @since 2023.1.1
+     */
+    private List<Timeout> newTimeouts(TimerTask[] tasks, long[] delays, long delay, TimeUnit unit) {
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        for (TimerTask task : tasks) {
+            if (task == null) {
+                throw new NullPointerException("task");
+            }
+        }
+        if (tasks.length == 0) {
+            return Collections.emptyList();
+        }
+
+        long pendingTimeoutsCount = pendingTimeouts.addAndGet(tasks.length);
+
+        if (maxPendingTimeouts > 0 && pendingTimeoutsCount > maxPendingTimeouts) {
+            pendingTimeouts.addAndGet(-tasks.length);
+            throw new RejectedExecutionException("Number of pending timeouts ("
+                                                 + pendingTimeoutsCount + ") is greater than or equal to maximum allowed pending "
+                                                 + "timeouts (" + maxPendingTimeouts + ")");
+        }
+
+        start();
+
+        long now = System.nanoTime() - startTime;
+        HashedWheelTimeout[] batch = new HashedWheelTimeout[tasks.length];
+        Timeout[] handles = new Timeout[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            long taskDelay = delays == null ? delay : delays[i];
+            long deadline = now + unit.toNanos(taskDelay);
+
+            // Guard against overflow.
+            if (taskDelay > 0 && deadline < 0) {
+                deadline = Long.MAX_VALUE;
+            }
+            batch[i] = newTimeoutNode(tasks[i], deadline, 0);
+            handles[i] = batch[i].handle();
+        }
+        timeoutBatches.add(batch);
+        return Collections.unmodifiableList(Arrays.asList(handles));
+    }
+
     /**
      * Returns the number of pending timeouts of this {@link Timer}.
      *
@@ -487,6 +819,81 @@ public class HashedWheelTimer implements Timer {
         return pendingTimeouts.get();
     }
 
+    /**
+     * Returns how many nanoseconds after its scheduled time the worker started processing the last tick.
+     * A value that keeps growing means the worker itself can not keep up.
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long lastTickLateness() {
+        return lastTickLateness;
+    }
+
+    /**
+     * Returns the number of expired tasks that were handed to the task executor but did not finish yet.
+     * Always {@code 0} when the tasks run on the worker thread.
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long executingTasks() {
+        return executingTasks.get();
+    }
+
+    /**
+     * Returns the tick drift, expiry lateness and task run time statistics of this timer.
+     *
+     * @return the timer metrics
+     * @since 2023.1.1
+     */
+    public TimerMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the number of buckets of the wheel.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int wheelSize() {
+        return wheel.length;
+    }
+
+    /**
+     * Returns the number of timeouts currently held by the bucket at {@code index}. The value is maintained
+     * by the worker thread and read without synchronization, so it is only approximate.
+     *
+     * @param index index, 0 &lt;= index &lt; {@link #wheelSize()}
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int bucketOccupancy(int index) {
+        return wheel[index].size;
+    }
+
+    /**
+     * Returns the number of cancelled timeouts waiting for the worker to remove them from the wheel.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int cancelledBacklog() {
+        return cancelledBacklog.get();
+    }
+
+    /**
+     * Returns the number of recycled timeouts ready for reuse, always {@code 0} when pooling is disabled.
+     * The value is only approximate while other threads schedule or complete timeouts.
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int pooledTimeouts() {
+        return pool == null ? 0 : pool.size();
+    }
+
     /**
      * Report too many instances
      *
@@ -513,6 +920,13 @@ public class HashedWheelTimer implements Timer {
         /** Tick */
         private long tick;
 
+        /**
+         * Recurring timeouts that ran on this thread during the current tick, chained through
+         * {@link HashedWheelTimeout#next}. They go back into the wheel once the tick is done, so a bucket never
+         * grows while it is being expired.
+         */
+        private HashedWheelTimeout rearmed;
+
         /**
          * Run
          *
@@ -533,6 +947,9 @@ public class HashedWheelTimer implements Timer {
             do {
                 final long deadline = waitForNextTick();
                 if (deadline > 0) {
+                    long lateness = deadline - tickDuration * (tick + 1);
+                    lastTickLateness = lateness;
+                    metrics.tickDrift().record(lateness);
                     int idx = (int) (tick & mask);
                     processCancelledTasks();
                     HashedWheelBucket bucket =
@@ -540,6 +957,7 @@ public class HashedWheelTimer implements Timer {
                     transferTimeoutsToBuckets();
                     bucket.expireTimeouts(deadline);
                     tick++;
+                    transferRearmedToBuckets();
                 }
             } while (WORKER_STATE_UPDATER.get(HashedWheelTimer.this) == WORKER_STATE_STARTED);
 
@@ -547,13 +965,33 @@ public class HashedWheelTimer implements Timer {
             for (HashedWheelBucket bucket : wheel) {
                 bucket.clearTimeouts(unprocessedTimeouts);
             }
+            for (HashedWheelTimeout timeout = rearmed; timeout != null; ) {
+                HashedWheelTimeout next = timeout.next;
+                timeout.next = null;
+                if (!timeout.isCancelled()) {
+                    unprocessedTimeouts.add(timeout.handle());
+                }
+                timeout = next;
+            }
+            rearmed = null;
             for (; ; ) {
                 HashedWheelTimeout timeout = timeouts.poll();
                 if (timeout == null) {
                     break;
                 }
                 if (!timeout.isCancelled()) {
-                    unprocessedTimeouts.add(timeout);
+                    unprocessedTimeouts.add(timeout.handle());
+                }
+            }
+            for (; ; ) {
+                HashedWheelTimeout[] batch = timeoutBatches.poll();
+                if (batch == null) {
+                    break;
+                }
+                for (HashedWheelTimeout timeout : batch) {
+                    if (!timeout.isCancelled()) {
+                        unprocessedTimeouts.add(timeout.handle());
+                    }
                 }
             }
             processCancelledTasks();
@@ -566,28 +1004,84 @@ public class HashedWheelTimer implements Timer {
          */
         private void transferTimeoutsToBuckets() {
             // transfer only max. 100000 timeouts per tick to prevent a thread to stale the workerThread when it just
-            // adds new timeouts in a loop.
-            for (int i = 0; i < 100000; i++) {
+            // adds new timeouts in a loop. A batch is always transferred as a whole.
+            int transferred = 0;
+            while (transferred < 100000) {
+                HashedWheelTimeout[] batch = timeoutBatches.poll();
+                if (batch == null) {
+                    break;
+                }
+                for (HashedWheelTimeout timeout : batch) {
+                    transferTimeoutToBucket(timeout);
+                }
+                transferred += batch.length;
+            }
+            for (; transferred < 100000; transferred++) {
                 HashedWheelTimeout timeout = timeouts.poll();
                 if (timeout == null) {
                     // all processed
-                    break;
-                }
-                if (timeout.state() == HashedWheelTimeout.ST_CANCELLED) {
-                    // Was cancelled in the meantime.
-                    continue;
+                    return;
                 }
+                transferTimeoutToBucket(timeout);
+            }
+            if (!timeouts.isEmpty() || !timeoutBatches.isEmpty()) {
+                metrics.recordTransferCapHit();
+            }
+        }
 
-                long calculated = timeout.deadline / tickDuration;
-                timeout.remainingRounds = (calculated - tick) / wheel.length;
+        /**
+         * Queue a recurring timeout that just ran on the worker thread for its next execution.
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        void rearm(HashedWheelTimeout timeout) {
+            timeout.next = rearmed;
+            rearmed = timeout;
+        }
 
-                // Ensure we don't schedule for past.
-                final long ticks = Math.max(calculated, tick);
-                int stopIndex = (int) (ticks & mask);
+        /**
+         * Transfer rearmed to buckets
+         *
+         * @since 2023.1.1
+         */
+        private void transferRearmedToBuckets() {
+            HashedWheelTimeout timeout = rearmed;
+            rearmed = null;
+            while (timeout != null) {
+                HashedWheelTimeout next = timeout.next;
+                timeout.next = null;
+                transferTimeoutToBucket(timeout);
+                timeout = next;
+            }
+        }
 
-                HashedWheelBucket bucket = wheel[stopIndex];
-                bucket.addTimeout(timeout);
+        /**
+         * Transfer timeout to bucket
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        private void transferTimeoutToBucket(HashedWheelTimeout timeout) {
+            timeout.queued = false;
+            if (timeout.state() == HashedWheelTimeout.ST_CANCELLED) {
+                // Was cancelled in the meantime. Once the cancellation was processed as well nothing refers to
+                // the node any more, otherwise processCancelledTasks() recycles it.
+                if (timeout.cancelProcessed) {
+                    timeout.recycle();
+                }
+                return;
             }
+
+            long calculated = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+            // Ensure we don't schedule for past.
+            final long ticks = Math.max(calculated, tick);
+            int stopIndex = (int) (ticks & mask);
+
+            HashedWheelBucket bucket = wheel[stopIndex];
+            bucket.addTimeout(timeout);
         }
 
         /**
@@ -602,8 +1096,13 @@ public class HashedWheelTimer implements Timer {
                     // all processed
                     break;
                 }
+                cancelledBacklog.decrementAndGet();
                 try {
                     timeout.remove();
+                    timeout.cancelProcessed = true;
+                    if (!timeout.queued) {
+                        timeout.recycle();
+                    }
                 } catch (Throwable t) {
                     if (logger.isWarnEnabled()) {
                         logger.warn("An exception was thrown while process a cancellation task", t);
@@ -624,21 +1123,18 @@ public class HashedWheelTimer implements Timer {
 
             for (; ; ) {
                 final long currentTime = System.nanoTime() - startTime;
-                long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+                long remaining = deadline - currentTime;
 
-                if (sleepTimeMs <= 0) {
+                if (remaining <= 0) {
                     if (currentTime == Long.MIN_VALUE) {
                         return -Long.MAX_VALUE;
                     } else {
                         return currentTime;
                     }
                 }
-                if (isWindows()) {
-                    sleepTimeMs = sleepTimeMs / 10 * 10;
-                }
 
                 try {
-                    Thread.sleep(sleepTimeMs);
+                    waitStrategy.await(remaining);
                 } catch (InterruptedException ignored) {
                     if (WORKER_STATE_UPDATER.get(HashedWheelTimer.this) == WORKER_STATE_SHUTDOWN) {
                         return Long.MIN_VALUE;
@@ -665,7 +1161,7 @@ public class HashedWheelTimer implements Timer {
      * @date 2023.01.03 09:58
      * @since 2023.1.1
      */
-    private static final class HashedWheelTimeout implements Timeout {
+    private static final class HashedWheelTimeout implements Timeout, Runnable {
 
         /** ST_INIT */
         private static final int ST_INIT = 0;
@@ -673,21 +1169,43 @@ public class HashedWheelTimer implements Timer {
         private static final int ST_CANCELLED = 1;
         /** ST_EXPIRED */
         private static final int ST_EXPIRED = 2;
+        /** The low bits of {@link #state} hold the state, the others the generation of the node */
+        private static final int ST_MASK = 3;
+        /** GENERATION_SHIFT */
+        private static final int GENERATION_SHIFT = 2;
         /** STATE_UPDATER */
         private static final AtomicIntegerFieldUpdater<HashedWheelTimeout> STATE_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimeout.class, "state");
 
         /** Timer */
         private final HashedWheelTimer timer;
-        /** Task */
-        private final TimerTask task;
-        /** Deadline */
-        private final long deadline;
-
-        /** State */
+        /** Task, replaced when a pooled node is reused */
+        private TimerTask task;
+        /** Deadline, moved forward every time a recurring timeout is re-armed */
+        private long deadline;
+        /** 0 for a one-time timeout, &gt; 0 for fixed rate, &lt; 0 for fixed delay, in nanoseconds */
+        private final long period;
+
+        /** Generation and state, see {@link #ST_MASK}. The generation stays 0 unless the node is pooled */
         @SuppressWarnings( {"unused", "FieldMayBeFinal", "RedundantFieldInitialization"})
         private volatile int state = ST_INIT;
 
+        /** Handle given out for the current generation of a pooled node, {@code null} if not pooled */
+        PooledTimeout handle;
+
+        /** Link of {@link HashedWheelTimer#timeouts} */
+        volatile HashedWheelTimeout queueNext;
+        /** Link of {@link HashedWheelTimer#cancelledTimeouts} */
+        volatile HashedWheelTimeout cancelNext;
+
+        /**
+         * Whether the worker did not take the timeout out of the timeout queue or its batch yet. Set before the
+         * timeout is published, afterwards only used by the worker thread.
+         */
+        boolean queued;
+        /** Whether the worker processed the cancellation of this timeout, only used by the worker thread */
+        boolean cancelProcessed;
+
         /**
          * RemainingRounds will be calculated and set by Worker.transferTimeoutsToBuckets() before the
          * HashedWheelTimeout will be added to the correct HashedWheelBucket.
@@ -713,12 +1231,14 @@ public class HashedWheelTimer implements Timer {
          * @param timer    timer
          * @param task     task
          * @param deadline deadline
+         * @param period   period
          * @since 2023.1.1
          */
-        HashedWheelTimeout(HashedWheelTimer timer, TimerTask task, long deadline) {
+        HashedWheelTimeout(HashedWheelTimer timer, TimerTask task, long deadline, long period) {
             this.timer = timer;
             this.task = task;
             this.deadline = deadline;
+            this.period = period;
         }
 
         /**
@@ -751,14 +1271,27 @@ public class HashedWheelTimer implements Timer {
          */
         @Override
         public boolean cancel() {
+            return cancel(generation());
+        }
+
+        /**
+         * Cancel the timeout only if the node still belongs to {@code generation}.
+         *
+         * @param generation generation
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        boolean cancel(int generation) {
             // only update the state it will be removed from HashedWheelBucket on next tick.
-            if (!compareAndSetState(ST_INIT, ST_CANCELLED)) {
+            int current = generation << GENERATION_SHIFT;
+            if (!STATE_UPDATER.compareAndSet(this, current | ST_INIT, current | ST_CANCELLED)) {
                 return false;
             }
             // If a task should be canceled we put this to another queue which will be processed on each tick.
             // So this means that we will have a GC latency of max. 1 tick duration which is good enough. This way
             // we can make again use of our MpscLinkedQueue and so minimize the locking / overhead as much as possible.
-            timer.cancelledTimeouts.add(this);
+            timer.cancelledBacklog.incrementAndGet();
+            timer.cancelledTimeouts.offer(this);
             return true;
         }
 
@@ -785,7 +1318,8 @@ public class HashedWheelTimer implements Timer {
          * @since 2023.1.1
          */
         public boolean compareAndSetState(int expected, int state) {
-            return STATE_UPDATER.compareAndSet(this, expected, state);
+            int generation = this.state & ~ST_MASK;
+            return STATE_UPDATER.compareAndSet(this, generation | expected, generation | state);
         }
 
         /**
@@ -795,7 +1329,51 @@ public class HashedWheelTimer implements Timer {
          * @since 2023.1.1
          */
         public int state() {
-            return state;
+            return state & ST_MASK;
+        }
+
+        /**
+         * Generation
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        int generation() {
+            return state >>> GENERATION_SHIFT;
+        }
+
+        /**
+         * The {@link Timeout} given to the caller and to the task: the pooled handle, or this node itself.
+         *
+         * @return the timeout
+         * @since 2023.1.1
+         */
+        Timeout handle() {
+            PooledTimeout handle = this.handle;
+            return handle != null ? handle : this;
+        }
+
+        /**
+         * Hand a pooled node back to the pool once nothing refers to it any more. Records the final state in
+         * the handle and starts a new generation, so the handle can never reach the next user of the node.
+         *
+         * @since 2023.1.1
+         */
+        void recycle() {
+            PooledTimeout handle = this.handle;
+            if (handle == null) {
+                return;
+            }
+            int current = state;
+            handle.finalState = current & ST_MASK;
+            this.handle = null;
+            task = null;
+            queued = false;
+            cancelProcessed = false;
+            remainingRounds = 0;
+            // Volatile write, publishes the final state to the handle.
+            state = (((current >>> GENERATION_SHIFT) + 1) << GENERATION_SHIFT) | ST_INIT;
+            timer.pool.release(this);
         }
 
         /**
@@ -826,16 +1404,93 @@ public class HashedWheelTimer implements Timer {
          * @since 2023.1.1
          */
         public void expire() {
-            if (!compareAndSetState(ST_INIT, ST_EXPIRED)) {
+            if (period == 0) {
+                if (!compareAndSetState(ST_INIT, ST_EXPIRED)) {
+                    // Cancelled: the queued cancellation updates the pending timeouts counter on the next tick.
+                    return;
+                }
+                timer.pendingTimeouts.decrementAndGet();
+            } else if (state() != ST_INIT) {
+                // A recurring timeout stays in ST_INIT until it is cancelled.
                 return;
             }
 
+            if (timer.taskExecutor == IMMEDIATE_EXECUTOR) {
+                runTask();
+                if (period == 0) {
+                    recycle();
+                } else if (state() == ST_INIT) {
+                    // We are on the worker thread: reuse this instance and put it back without the queue.
+                    deadline = nextDeadline();
+                    timer.worker.rearm(this);
+                }
+                return;
+            }
+
+            timer.executingTasks.incrementAndGet();
             try {
-                task.run(this);
+                timer.taskExecutor.execute(this);
+            } catch (Throwable t) {
+                timer.executingTasks.decrementAndGet();
+                if (logger.isWarnEnabled()) {
+                    logger.warn("An exception was thrown while submit " + TimerTask.class.getSimpleName()
+                                + " for execution.", t);
+                }
+                if (period == 0) {
+                    recycle();
+                }
+            }
+        }
+
+        /**
+         * Run on the task executor
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void run() {
+            try {
+                runTask();
+            } finally {
+                timer.executingTasks.decrementAndGet();
+            }
+            if (period == 0) {
+                recycle();
+            } else if (state() == ST_INIT && !timer.isStop()) {
+                // Not on the worker thread, hand this instance back through the timeout queue.
+                deadline = nextDeadline();
+                queued = true;
+                timer.timeouts.offer(this);
+            }
+        }
+
+        /**
+         * Deadline of the next execution of a recurring timeout
+         *
+         * @return the long
+         * @since 2023.1.1
+         */
+        private long nextDeadline() {
+            long next = period > 0 ? deadline + period : System.nanoTime() - timer.startTime - period;
+            // Guard against overflow.
+            return next < 0 ? Long.MAX_VALUE : next;
+        }
+
+        /**
+         * Run task
+         *
+         * @since 2023.1.1
+         */
+        private void runTask() {
+            long start = System.nanoTime();
+            try {
+                task.run(handle());
             } catch (Throwable t) {
                 if (logger.isWarnEnabled()) {
                     logger.warn("An exception was thrown by " + TimerTask.class.getSimpleName() + '.', t);
                 }
+            } finally {
+                timer.metrics.taskRunTime().record(System.nanoTime() - start);
             }
         }
 
@@ -876,6 +1531,301 @@ public class HashedWheelTimer implements Timer {
         }
     }
 
+    /**
+     * The {@link Timeout} returned for a pooled node. It remembers the generation of the node it was created
+     * for and stops delegating to the node as soon as the node was recycled.
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 15:10
+     * @since 2023.1.1
+     */
+    private static final class PooledTimeout implements Timeout {
+
+        /** Node */
+        private final HashedWheelTimeout node;
+        /** Generation of the node this handle belongs to */
+        private final int generation;
+        /** Task */
+        private final TimerTask task;
+        /** State of the node when it was recycled, published by the volatile write of the new generation */
+        int finalState;
+
+        /**
+         * Pooled timeout
+         *
+         * @param node       node
+         * @param generation generation
+         * @param task       task
+         * @since 2023.1.1
+         */
+        PooledTimeout(HashedWheelTimeout node, int generation, TimerTask task) {
+            this.node = node;
+            this.generation = generation;
+            this.task = task;
+        }
+
+        /**
+         * Timer
+         *
+         * @return the timer
+         * @since 2023.1.1
+         */
+        @Override
+        public Timer timer() {
+            return node.timer;
+        }
+
+        /**
+         * Task
+         *
+         * @return the timer task
+         * @since 2023.1.1
+         */
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        /**
+         * Cancel
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean cancel() {
+            return node.cancel(generation);
+        }
+
+        /**
+         * Is cancelled
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isCancelled() {
+            return state() == HashedWheelTimeout.ST_CANCELLED;
+        }
+
+        /**
+         * Is expired
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isExpired() {
+            return state() == HashedWheelTimeout.ST_EXPIRED;
+        }
+
+        /**
+         * State of the node while it still belongs to this handle, the recorded final state afterwards
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        private int state() {
+            int current = node.state;
+            if (current >>> HashedWheelTimeout.GENERATION_SHIFT == generation) {
+                return current & HashedWheelTimeout.ST_MASK;
+            }
+            return finalState;
+        }
+
+        /**
+         * To string
+         *
+         * @return the string
+         * @since 2023.1.1
+         */
+        @Override
+        public String toString() {
+            return ClassUtil.getClassName(this.getClass(), true)
+                   + "(generation: " + generation
+                   + (isCancelled() ? ", cancelled" : isExpired() ? ", expired" : "")
+                   + ", task: " + task + ')';
+        }
+    }
+
+    /**
+     * Unbounded multi-producer / single-consumer queue that links the {@link HashedWheelTimeout}s themselves
+     * (D. Vyukov's intrusive MPSC queue), so neither {@code newTimeout} nor {@code cancel} allocates a queue
+     * node.  Every queue uses its own link field, a timeout may sit in {@link #timeouts} and in
+     * {@link #cancelledTimeouts} at the same time.  Only the worker thread polls.
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 15:10
+     * @since 2023.1.1
+     */
+    private static final class TimeoutQueue {
+
+        /** QUEUE_NEXT */
+        static final AtomicReferenceFieldUpdater<HashedWheelTimeout, HashedWheelTimeout> QUEUE_NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(HashedWheelTimeout.class, HashedWheelTimeout.class, "queueNext");
+        /** CANCEL_NEXT */
+        static final AtomicReferenceFieldUpdater<HashedWheelTimeout, HashedWheelTimeout> CANCEL_NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(HashedWheelTimeout.class, HashedWheelTimeout.class, "cancelNext");
+
+        /** Link field of this queue */
+        private final AtomicReferenceFieldUpdater<HashedWheelTimeout, HashedWheelTimeout> next;
+        /** Placeholder node, keeps the queue linked when it runs empty */
+        private final HashedWheelTimeout stub = new HashedWheelTimeout(null, null, 0, 0);
+        /** Last offered node, swapped by the producers */
+        private final AtomicReference<HashedWheelTimeout> last = new AtomicReference<>(stub);
+        /** Next node to poll, only used by the consumer */
+        private HashedWheelTimeout first = stub;
+
+        /**
+         * Timeout queue
+         *
+         * @param next link field of this queue
+         * @since 2023.1.1
+         */
+        TimeoutQueue(AtomicReferenceFieldUpdater<HashedWheelTimeout, HashedWheelTimeout> next) {
+            this.next = next;
+        }
+
+        /**
+         * Offer
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        void offer(HashedWheelTimeout timeout) {
+            next.lazySet(timeout, null);
+            HashedWheelTimeout previous = last.getAndSet(timeout);
+            // Until this write the consumer can not see the new node and stops at previous.
+            next.lazySet(previous, timeout);
+        }
+
+        /**
+         * Poll, may return {@code null} while a producer is in the middle of an offer; the worker picks the
+         * node up on the next tick.
+         *
+         * @return the hashed wheel timeout
+         * @since 2023.1.1
+         */
+        HashedWheelTimeout poll() {
+            HashedWheelTimeout first = this.first;
+            HashedWheelTimeout following = next.get(first);
+            if (first == stub) {
+                if (following == null) {
+                    return null;
+                }
+                this.first = following;
+                first = following;
+                following = next.get(following);
+            }
+            if (following != null) {
+                this.first = following;
+                return first;
+            }
+            if (first != last.get()) {
+                return null;
+            }
+            // first is the only node left: put the stub behind it so it can be handed out.
+            offer(stub);
+            following = next.get(first);
+            if (following != null) {
+                this.first = following;
+                return first;
+            }
+            return null;
+        }
+
+        /**
+         * Is empty, only meaningful on the consumer thread
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        boolean isEmpty() {
+            return first == stub && next.get(stub) == null;
+        }
+    }
+
+    /**
+     * Bounded lock-free pool of recycled {@link HashedWheelTimeout}s.  Every slot is taken and filled with a
+     * single CAS, {@link #top} is only a racy hint where the filled slots end, so a lost update costs at
+     * most a missed reuse.  When the pool is empty a new node is allocated, when it is full the recycled node
+     * is left to the GC.
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 15:10
+     * @since 2023.1.1
+     */
+    private static final class TimeoutPool {
+
+        /** Slots probed before giving up */
+        private static final int PROBES = 8;
+
+        /** Slots */
+        private final AtomicReferenceArray<HashedWheelTimeout> slots;
+        /** Index after the last filled slot, approximate */
+        private volatile int top;
+
+        /**
+         * Timeout pool
+         *
+         * @param capacity capacity
+         * @since 2023.1.1
+         */
+        TimeoutPool(int capacity) {
+            slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * Acquire
+         *
+         * @return a recycled node, or {@code null} if none was found
+         * @since 2023.1.1
+         */
+        HashedWheelTimeout acquire() {
+            int index = Math.min(top, slots.length()) - 1;
+            for (int probe = 0; probe < PROBES && index >= 0; probe++, index--) {
+                HashedWheelTimeout timeout = slots.get(index);
+                if (timeout != null && slots.compareAndSet(index, timeout, null)) {
+                    top = index;
+                    return timeout;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Release
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        void release(HashedWheelTimeout timeout) {
+            int index = Math.max(top, 0);
+            for (int probe = 0; probe < PROBES && index < slots.length(); probe++, index++) {
+                if (slots.get(index) == null && slots.compareAndSet(index, null, timeout)) {
+                    top = index + 1;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Size
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        int size() {
+            int size = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
     /**
      * Bucket that stores HashedWheelTimeouts. These are stored in a linked-list like datastructure to allow easy
      * removal of HashedWheelTimeouts in the middle. Also the HashedWheelTimeout act as nodes themself and so no
@@ -893,6 +1843,8 @@ public class HashedWheelTimer implements Timer {
         private HashedWheelTimeout head;
         /** Tail */
         private HashedWheelTimeout tail;
+        /** Number of timeouts in this bucket, only written by the worker thread */
+        private int size;
 
         /**
          * Add {@link HashedWheelTimeout} to this bucket.
@@ -903,6 +1855,7 @@ public class HashedWheelTimer implements Timer {
         void addTimeout(HashedWheelTimeout timeout) {
             assert timeout.bucket == null;
             timeout.bucket = this;
+            size++;
             if (head == null) {
                 head = tail = timeout;
             } else {
@@ -924,17 +1877,22 @@ public class HashedWheelTimer implements Timer {
             // process all timeouts
             while (timeout != null) {
                 HashedWheelTimeout next = timeout.next;
-                if (timeout.remainingRounds <= 0) {
-                    next = remove(timeout);
+                if (timeout.isCancelled()) {
+                    // The cancellation is still queued: processCancelledTasks() updates the pending timeouts
+                    // counter and recycles the node on the next tick.
+                    next = unlink(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    // expire() updates the pending timeouts counter only if it wins the race against cancel();
+                    // a recurring timeout stays pending until it is cancelled.
+                    next = unlink(timeout);
                     if (timeout.deadline <= deadline) {
+                        timeout.timer.metrics.expiryLateness().record(deadline - timeout.deadline);
                         timeout.expire();
                     } else {
                         // The timeout was placed into a wrong slot. This should never happen.
                         throw new IllegalStateException(String.format(
                             "timeout.deadline (%d) > deadline (%d)", timeout.deadline, deadline));
                     }
-                } else if (timeout.isCancelled()) {
-                    next = remove(timeout);
                 } else {
                     timeout.remainingRounds--;
                 }
@@ -950,6 +1908,19 @@ public class HashedWheelTimer implements Timer {
          * @since 2023.1.1
          */
         public HashedWheelTimeout remove(HashedWheelTimeout timeout) {
+            HashedWheelTimeout next = unlink(timeout);
+            timeout.timer.pendingTimeouts.decrementAndGet();
+            return next;
+        }
+
+        /**
+         * Take the timeout out of the linked-list without touching the pending timeouts counter.
+         *
+         * @param timeout timeout
+         * @return the hashed wheel timeout
+         * @since 2023.1.1
+         */
+        private HashedWheelTimeout unlink(HashedWheelTimeout timeout) {
             HashedWheelTimeout next = timeout.next;
             // remove timeout that was either processed or cancelled by updating the linked-list
             if (timeout.prev != null) {
@@ -975,7 +1946,7 @@ public class HashedWheelTimer implements Timer {
             timeout.prev = null;
             timeout.next = null;
             timeout.bucket = null;
-            timeout.timer.pendingTimeouts.decrementAndGet();
+            size--;
             return next;
         }
 
@@ -994,7 +1965,7 @@ public class HashedWheelTimer implements Timer {
                 if (timeout.isExpired() || timeout.isCancelled()) {
                     continue;
                 }
-                set.add(timeout);
+                set.add(timeout.handle());
             }
         }
 
@@ -1017,6 +1988,7 @@ public class HashedWheelTimer implements Timer {
                 next.prev = null;
             }
 
+            size--;
             // null out prev and next to allow for GC.
             head.next = null;
             head.prev = null;
@@ -1024,14 +1996,4 @@ public class HashedWheelTimer implements Timer {
             return head;
         }
     }
-
-    /**
-     * Is windows
-     *
-     * @return the boolean
-     * @since 2023.1.1
-     */
-    private boolean isWindows() {
-        return System.getProperty("os.name", "").toLowerCase(Locale.US).contains("win");
-    }
 }
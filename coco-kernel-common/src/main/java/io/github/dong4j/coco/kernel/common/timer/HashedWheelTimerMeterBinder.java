@@ -0,0 +1,156 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.dong4j.coco.kernel.common.support.LatencyHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exports the {@link TimerMetrics} of a {@link HashedWheelTimer} to Micrometer.
+ * <p>
+ * Micrometer is an optional dependency: only touch this class when it is on the classpath.  Every meter reads
+ * the live counters of the timer when it is scraped, nothing is recorded twice.
+ *
+ * <pre>{@code
+ * new HashedWheelTimerMeterBinder(timer, "notify").bindTo(registry);
+ * }</pre>
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 11:05
+ * @since 2023.1.1
+ */
+public class HashedWheelTimerMeterBinder implements MeterBinder {
+
+    /** Metric name prefix */
+    private static final String PREFIX = "coco.timer";
+
+    /** Timer */
+    private final HashedWheelTimer timer;
+    /** Tags */
+    private final Iterable<Tag> tags;
+
+    /**
+     * Hashed wheel timer meter binder
+     *
+     * @param timer timer
+     * @param name  value of the {@code name} tag
+     * @since 2023.1.1
+     */
+    public HashedWheelTimerMeterBinder(HashedWheelTimer timer, String name) {
+        this(timer, name, Tags.empty());
+    }
+
+    /**
+     * Hashed wheel timer meter binder
+     *
+     * @param timer timer
+     * @param name  value of the {@code name} tag
+     * @param tags  additional tags
+     * @since 2023.1.1
+     */
+    public HashedWheelTimerMeterBinder(HashedWheelTimer timer, String name, Iterable<Tag> tags) {
+        if (timer == null) {
+            throw new NullPointerException("timer");
+        }
+        this.timer = timer;
+        this.tags = Tags.concat(tags, "name", name);
+    }
+
+    /**
+     * Bind to
+     *
+     * @param registry registry
+     * @since 2023.1.1
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        TimerMetrics metrics = this.timer.metrics();
+
+        Gauge.builder(PREFIX + ".pending", this.timer, HashedWheelTimer::pendingTimeouts)
+            .tags(this.tags)
+            .description("Timeouts scheduled but not expired or cancelled yet")
+            .register(registry);
+        Gauge.builder(PREFIX + ".cancelled.backlog", this.timer, HashedWheelTimer::cancelledBacklog)
+            .tags(this.tags)
+            .description("Cancelled timeouts not yet removed from the wheel")
+            .register(registry);
+        Gauge.builder(PREFIX + ".executing", this.timer, HashedWheelTimer::executingTasks)
+            .tags(this.tags)
+            .description("Expired tasks handed to the task executor that did not finish yet")
+            .register(registry);
+        Gauge.builder(PREFIX + ".bucket.occupancy.max", this.timer, HashedWheelTimerMeterBinder::maxBucketOccupancy)
+            .tags(this.tags)
+            .description("Number of timeouts in the fullest bucket of the wheel")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".transfer.cap.hits", metrics, TimerMetrics::transferCapHits)
+            .tags(this.tags)
+            .description("Ticks that left new timeouts in the queue because of the per tick transfer cap")
+            .register(registry);
+        TimeGauge.builder(PREFIX + ".tick.lateness", this.timer, TimeUnit.NANOSECONDS,
+                          HashedWheelTimer::lastTickLateness)
+            .tags(this.tags)
+            .description("How late the worker started the last tick")
+            .register(registry);
+
+        this.bindHistogram(registry, PREFIX + ".tick.drift", metrics.tickDrift(),
+                           "How late the worker started each tick");
+        this.bindHistogram(registry, PREFIX + ".expiry.lateness", metrics.expiryLateness(),
+                           "How late timeouts expired compared to their deadline");
+        this.bindHistogram(registry, PREFIX + ".task.duration", metrics.taskRunTime(),
+                           "Run time of the timer tasks");
+    }
+
+    /**
+     * Bind histogram as a function timer plus max / percentile gauges
+     *
+     * @param registry    registry
+     * @param name        name
+     * @param histogram   histogram
+     * @param description description
+     * @since 2023.1.1
+     */
+    private void bindHistogram(MeterRegistry registry, String name, LatencyHistogram histogram, String description) {
+        FunctionTimer.builder(name, histogram, LatencyHistogram::count, LatencyHistogram::total, TimeUnit.NANOSECONDS)
+            .tags(this.tags)
+            .description(description)
+            .register(registry);
+        TimeGauge.builder(name + ".max", histogram, TimeUnit.NANOSECONDS, LatencyHistogram::max)
+            .tags(this.tags)
+            .description(description)
+            .register(registry);
+        TimeGauge.builder(name + ".percentile", histogram, TimeUnit.NANOSECONDS, h -> h.valueAtPercentile(50))
+            .tags(this.tags)
+            .tag("phi", "0.5")
+            .description(description)
+            .register(registry);
+        TimeGauge.builder(name + ".percentile", histogram, TimeUnit.NANOSECONDS, h -> h.valueAtPercentile(99))
+            .tags(this.tags)
+            .tag("phi", "0.99")
+            .description(description)
+            .register(registry);
+    }
+
+    /**
+     * Max bucket occupancy
+     *
+     * @param timer timer
+     * @return the double
+     * @since 2023.1.1
+     */
+    private static double maxBucketOccupancy(HashedWheelTimer timer) {
+        int max = 0;
+        for (int i = 0, size = timer.wheelSize(); i < size; i++) {
+            max = Math.max(max, timer.bucketOccupancy(i));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,1005 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cn.hutool.core.util.ClassUtil;
+
+/**
+ * A {@link Timer} backed by a hierarchy of timing wheels.
+ *
+ * <h3>Why another wheel</h3>
+ * <p>
+ * {@link HashedWheelTimer} keeps every timeout in a single wheel and tracks far-future
+ * timeouts with a 'remaining rounds' counter.  On every tick the whole bucket is walked and
+ * the counter of each timeout that is not due yet is decremented, so the cost of a tick grows
+ * with the number of pending timeouts.  When long retry / session timeouts are scheduled next
+ * to short ones the worker spends most of its time on entries that are hours away.
+ *
+ * <h3>Levels</h3>
+ * <p>
+ * This timer keeps {@code levels} wheels of {@code ticksPerWheel} buckets each.  A bucket of
+ * level {@code 0} covers exactly one tick, a bucket of level {@code n} covers
+ * {@code ticksPerWheel^n} ticks.  A timeout is put into the lowest level whose span is large
+ * enough to hold it.  Whenever the level {@code n - 1} wheel wraps around, the next bucket of
+ * level {@code n} is cascaded: its timeouts are re-inserted relative to the current tick and
+ * therefore move down to a finer wheel.  Timeouts further away than the whole hierarchy
+ * ({@code ticksPerWheel^levels} ticks) are parked in the coarsest wheel and re-inserted each time
+ * that wheel comes around.
+ * <p>
+ * As a result every timeout found in the level {@code 0} bucket of the current tick is due, and a
+ * timeout is touched at most {@code levels} times before it expires.  The per-tick cost depends on
+ * what expires, not on how many timeouts are pending.
+ *
+ * <h3>Do not create many instances.</h3>
+ * <p>
+ * Just like {@link HashedWheelTimer}, a new thread is created whenever this timer is instantiated
+ * and started, so one shared instance should be used.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 10:12
+ * @see HashedWheelTimer
+ * @since 2023.1.1
+ */
+@SuppressWarnings("all")
+public class HierarchicalWheelTimer implements Timer {
+
+    /** logger */
+    private static final Logger logger = LoggerFactory.getLogger(HierarchicalWheelTimer.class);
+
+    /** INSTANCE_COUNTER */
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+    /** WARNED_TOO_MANY_INSTANCES */
+    private static final AtomicBoolean WARNED_TOO_MANY_INSTANCES = new AtomicBoolean();
+    /** INSTANCE_COUNT_LIMIT */
+    private static final int INSTANCE_COUNT_LIMIT = 64;
+    /** WORKER_STATE_UPDATER */
+    private static final AtomicIntegerFieldUpdater<HierarchicalWheelTimer> WORKER_STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(HierarchicalWheelTimer.class, "workerState");
+
+    /** Worker */
+    private final Worker worker = new Worker();
+    /** Worker thread */
+    private final Thread workerThread;
+
+    /** WORKER_STATE_INIT */
+    private static final int WORKER_STATE_INIT = 0;
+    /** WORKER_STATE_STARTED */
+    private static final int WORKER_STATE_STARTED = 1;
+    /** WORKER_STATE_SHUTDOWN */
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+
+    /**
+     * 0 - init, 1 - started, 2 - shut down
+     */
+    @SuppressWarnings( {"unused", "FieldMayBeFinal"})
+    private volatile int workerState;
+
+    /** Tick duration */
+    private final long tickDuration;
+    /** Wheels, indexed by level then by bucket */
+    private final HierarchicalWheelBucket[][] wheels;
+    /** log2 of the number of buckets per wheel */
+    private final int wheelBits;
+    /** Mask */
+    private final int mask;
+    /** Number of ticks covered by the whole hierarchy */
+    private final long span;
+    /** Start time initialized */
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    /** Timeouts */
+    private final Queue<HierarchicalWheelTimeout> timeouts = new LinkedBlockingQueue<>();
+    /** Cancelled timeouts */
+    private final Queue<HierarchicalWheelTimeout> cancelledTimeouts = new LinkedBlockingQueue<>();
+    /** Pending timeouts */
+    private final AtomicLong pendingTimeouts = new AtomicLong(0);
+    /** Max pending timeouts */
+    private final long maxPendingTimeouts;
+
+    /** Start time */
+    private volatile long startTime;
+
+    /**
+     * Creates a new timer with the default thread factory
+     * ({@link Executors#defaultThreadFactory()}), default tick duration (100 milliseconds),
+     * 256 ticks per wheel and 4 levels.
+     *
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer() {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Creates a new timer with the default thread factory
+     * ({@link Executors#defaultThreadFactory()}), 256 ticks per wheel and 4 levels.
+     *
+     * @param tickDuration the duration between tick
+     * @param unit         the time unit of the {@code tickDuration}
+     * @throws NullPointerException     if {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code tickDuration} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer(long tickDuration, TimeUnit unit) {
+        this(Executors.defaultThreadFactory(), tickDuration, unit);
+    }
+
+    /**
+     * Creates a new timer with the default tick duration (100 milliseconds),
+     * 256 ticks per wheel and 4 levels.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates a background {@link Thread} which is dedicated to
+     *                      {@link TimerTask} execution.
+     * @throws NullPointerException if {@code threadFactory} is {@code null}
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory) {
+        this(threadFactory, 100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new timer with 256 ticks per wheel and 4 levels.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates a background {@link Thread} which is dedicated to
+     *                      {@link TimerTask} execution.
+     * @param tickDuration  the duration between tick
+     * @param unit          the time unit of the {@code tickDuration}
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code tickDuration} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit) {
+        this(threadFactory, tickDuration, unit, 256, 4);
+    }
+
+    /**
+     * Creates a new timer without a pending timeouts limit.
+     *
+     * @param threadFactory a {@link ThreadFactory} that creates a background {@link Thread} which is dedicated to
+     *                      {@link TimerTask} execution.
+     * @param tickDuration  the duration between tick
+     * @param unit          the time unit of the {@code tickDuration}
+     * @param ticksPerWheel the size of every wheel, normalized to a power of two
+     * @param levels        the number of wheels in the hierarchy
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration}, {@code ticksPerWheel} and
+     *                                  {@code levels} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory,
+                                  long tickDuration, TimeUnit unit, int ticksPerWheel, int levels) {
+        this(threadFactory, tickDuration, unit, ticksPerWheel, levels, -1);
+    }
+
+    /**
+     * Creates a new timer.
+     *
+     * @param threadFactory      a {@link ThreadFactory} that creates a background {@link Thread} which is
+     *                           dedicated to {@link TimerTask} execution.
+     * @param tickDuration       the duration between tick
+     * @param unit               the time unit of the {@code tickDuration}
+     * @param ticksPerWheel      the size of every wheel, normalized to a power of two
+     * @param levels             the number of wheels in the hierarchy
+     * @param maxPendingTimeouts The maximum number of pending timeouts after which call to {@code newTimeout}
+     *                           will result in {@link RejectedExecutionException} being thrown. No maximum
+     *                           pending timeouts limit is assumed if this value is 0 or negative.
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either of {@code tickDuration}, {@code ticksPerWheel} and
+     *                                  {@code levels} is &lt;= 0, or if the hierarchy would cover more than
+     *                                  2^62 ticks
+     * @since 2023.1.1
+     */
+    public HierarchicalWheelTimer(ThreadFactory threadFactory,
+                                  long tickDuration, TimeUnit unit, int ticksPerWheel, int levels,
+                                  long maxPendingTimeouts) {
+
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be greater than 1: " + ticksPerWheel);
+        }
+        if (ticksPerWheel > 1073741824) {
+            throw new IllegalArgumentException("ticksPerWheel may not be greater than 2^30: " + ticksPerWheel);
+        }
+        if (levels <= 0) {
+            throw new IllegalArgumentException("levels must be greater than 0: " + levels);
+        }
+
+        // Normalize ticksPerWheel to power of two.
+        int normalized = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheelBits = Integer.numberOfTrailingZeros(normalized);
+        this.mask = normalized - 1;
+
+        if ((long) wheelBits * levels > 62) {
+            throw new IllegalArgumentException(String.format(
+                "ticksPerWheel^levels must not exceed 2^62: %d^%d", normalized, levels));
+        }
+        this.span = 1L << (wheelBits * levels);
+
+        this.wheels = new HierarchicalWheelBucket[levels][];
+        for (int level = 0; level < levels; level++) {
+            HierarchicalWheelBucket[] wheel = new HierarchicalWheelBucket[normalized];
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new HierarchicalWheelBucket();
+            }
+            this.wheels[level] = wheel;
+        }
+
+        // Convert tickDuration to nanos.
+        this.tickDuration = unit.toNanos(tickDuration);
+        workerThread = threadFactory.newThread(worker);
+
+        this.maxPendingTimeouts = maxPendingTimeouts;
+
+        if (INSTANCE_COUNTER.incrementAndGet() > INSTANCE_COUNT_LIMIT &&
+            WARNED_TOO_MANY_INSTANCES.compareAndSet(false, true)) {
+            reportTooManyInstances();
+        }
+    }
+
+    /**
+     * Finalize
+     *
+     * @throws Throwable throwable
+     * @since 2023.1.1
+     */
+    @Override
+    protected void finalize() throws Throwable {
+        try {
+            super.finalize();
+        } finally {
+            // This object is going to be GCed and it is assumed the ship has sailed to do a proper shutdown. If
+            // we have not yet shutdown then we want to make sure we decrement the active instance count.
+            if (WORKER_STATE_UPDATER.getAndSet(this, WORKER_STATE_SHUTDOWN) != WORKER_STATE_SHUTDOWN) {
+                INSTANCE_COUNTER.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Starts the background thread explicitly.  The background thread will
+     * start automatically on demand even if you did not call this method.
+     *
+     * @throws IllegalStateException if this timer has been {@linkplain #stop() stopped} already
+     * @since 2023.1.1
+     */
+    public void start() {
+        switch (WORKER_STATE_UPDATER.get(this)) {
+            case WORKER_STATE_INIT:
+                if (WORKER_STATE_UPDATER.compareAndSet(this, WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            case WORKER_STATE_SHUTDOWN:
+                throw new IllegalStateException("cannot be started once stopped");
+            default:
+                throw new Error("Invalid WorkerState");
+        }
+
+        // Wait until the startTime is initialized by the worker.
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException ignore) {
+                // Ignore - it will be ready very soon.
+            }
+        }
+    }
+
+    /**
+     * Stop
+     *
+     * @return the set
+     * @since 2023.1.1
+     */
+    @Override
+    public Set<Timeout> stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException(
+                HierarchicalWheelTimer.class.getSimpleName() +
+                ".stop() cannot be called from " +
+                TimerTask.class.getSimpleName());
+        }
+
+        if (!WORKER_STATE_UPDATER.compareAndSet(this, WORKER_STATE_STARTED, WORKER_STATE_SHUTDOWN)) {
+            // workerState can be 0 or 2 at this moment - let it always be 2.
+            if (WORKER_STATE_UPDATER.getAndSet(this, WORKER_STATE_SHUTDOWN) != WORKER_STATE_SHUTDOWN) {
+                INSTANCE_COUNTER.decrementAndGet();
+            }
+
+            return Collections.emptySet();
+        }
+
+        try {
+            boolean interrupted = false;
+            while (workerThread.isAlive()) {
+                workerThread.interrupt();
+                try {
+                    workerThread.join(100);
+                } catch (InterruptedException ignored) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            INSTANCE_COUNTER.decrementAndGet();
+        }
+        return worker.unprocessedTimeouts();
+    }
+
+    /**
+     * Is stop
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean isStop() {
+        return WORKER_STATE_SHUTDOWN == WORKER_STATE_UPDATER.get(this);
+    }
+
+    /**
+     * New timeout
+     *
+     * @param task  task
+     * @param delay delay
+     * @param unit  unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+
+        long pendingTimeoutsCount = pendingTimeouts.incrementAndGet();
+
+        if (maxPendingTimeouts > 0 && pendingTimeoutsCount > maxPendingTimeouts) {
+            pendingTimeouts.decrementAndGet();
+            throw new RejectedExecutionException("Number of pending timeouts ("
+                                                 + pendingTimeoutsCount + ") is greater than or equal to maximum allowed pending "
+                                                 + "timeouts (" + maxPendingTimeouts + ")");
+        }
+
+        start();
+
+        // Add the timeout to the timeout queue which will be processed on the next tick.
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+
+        // Guard against overflow.
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        HierarchicalWheelTimeout timeout = new HierarchicalWheelTimeout(this, task, deadline);
+        timeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of pending timeouts of this {@link Timer}.
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Report too many instances
+     *
+     * @since 2023.1.1
+     */
+    private static void reportTooManyInstances() {
+        String resourceType = ClassUtil.getClassName(HierarchicalWheelTimer.class, true);
+        logger.error("You are creating too many " + resourceType + " instances. " +
+                     resourceType + " is a shared resource that must be reused across the JVM," +
+                     "so that only a few instances are created.");
+    }
+
+    /**
+     * <p>Description: </p>
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 10:12
+     * @since 2023.1.1
+     */
+    private final class Worker implements Runnable {
+        /** Unprocessed timeouts */
+        private final Set<Timeout> unprocessedTimeouts = new HashSet<Timeout>();
+
+        /** Tick */
+        private long tick;
+
+        /**
+         * Run
+         *
+         * @since 2023.1.1
+         */
+        @Override
+        public void run() {
+            // Initialize the startTime.
+            startTime = System.nanoTime();
+            if (startTime == 0) {
+                // We use 0 as an indicator for the uninitialized value here, so make sure it's not 0 when initialized.
+                startTime = 1;
+            }
+
+            // Notify the other threads waiting for the initialization at start().
+            startTimeInitialized.countDown();
+
+            do {
+                final long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    processCancelledTasks();
+                    cascade();
+                    transferTimeoutsToBuckets();
+                    wheels[0][(int) (tick & mask)].expireTimeouts(deadline);
+                    tick++;
+                }
+            } while (WORKER_STATE_UPDATER.get(HierarchicalWheelTimer.this) == WORKER_STATE_STARTED);
+
+            // Fill the unprocessedTimeouts so we can return them from stop() method.
+            for (HierarchicalWheelBucket[] wheel : wheels) {
+                for (HierarchicalWheelBucket bucket : wheel) {
+                    bucket.clearTimeouts(unprocessedTimeouts);
+                }
+            }
+            for (; ; ) {
+                HierarchicalWheelTimeout timeout = timeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (!timeout.isCancelled()) {
+                    unprocessedTimeouts.add(timeout);
+                }
+            }
+            processCancelledTasks();
+        }
+
+        /**
+         * Whenever a wheel wraps around, move the timeouts of the next bucket of the coarser wheel down the
+         * hierarchy. A coarser wheel is only looked at when every finer wheel has wrapped at the same tick.
+         *
+         * @since 2023.1.1
+         */
+        private void cascade() {
+            for (int level = 1; level < wheels.length; level++) {
+                int shift = wheelBits * (level - 1);
+                if (((tick >>> shift) & mask) != 0) {
+                    return;
+                }
+                int idx = (int) ((tick >>> (shift + wheelBits)) & mask);
+                HierarchicalWheelBucket bucket = wheels[level][idx];
+                for (; ; ) {
+                    HierarchicalWheelTimeout timeout = bucket.pollTimeout();
+                    if (timeout == null) {
+                        break;
+                    }
+                    // Cancelled timeouts are moved as well, the cancellation queue still has to find them in a bucket.
+                    schedule(timeout);
+                }
+            }
+        }
+
+        /**
+         * Transfer timeouts to buckets
+         *
+         * @since 2023.1.1
+         */
+        private void transferTimeoutsToBuckets() {
+            // transfer only max. 100000 timeouts per tick to prevent a thread to stale the workerThread when it just
+            // adds new timeouts in a loop.
+            for (int i = 0; i < 100000; i++) {
+                HierarchicalWheelTimeout timeout = timeouts.poll();
+                if (timeout == null) {
+                    // all processed
+                    break;
+                }
+                if (timeout.state() == HierarchicalWheelTimeout.ST_CANCELLED) {
+                    // Was cancelled in the meantime.
+                    continue;
+                }
+                schedule(timeout);
+            }
+        }
+
+        /**
+         * Put the timeout into the finest wheel whose span covers its distance from the current tick.
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        private void schedule(HierarchicalWheelTimeout timeout) {
+            // Ensure we don't schedule for past.
+            long ticks = Math.max(timeout.deadline / tickDuration, tick);
+            long remaining = ticks - tick;
+
+            int level = 0;
+            while (level < wheels.length - 1 && remaining >>> (wheelBits * (level + 1)) != 0) {
+                level++;
+            }
+            if (remaining >= span) {
+                // Beyond the whole hierarchy: park it in the coarsest wheel, it is re-inserted once that bucket
+                // comes around again.
+                ticks = tick + span - 1;
+            }
+
+            int idx = (int) ((ticks >>> (wheelBits * level)) & mask);
+            wheels[level][idx].addTimeout(timeout);
+        }
+
+        /**
+         * Process cancelled tasks
+         *
+         * @since 2023.1.1
+         */
+        private void processCancelledTasks() {
+            for (; ; ) {
+                HierarchicalWheelTimeout timeout = cancelledTimeouts.poll();
+                if (timeout == null) {
+                    // all processed
+                    break;
+                }
+                try {
+                    timeout.remove();
+                } catch (Throwable t) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("An exception was thrown while process a cancellation task", t);
+                    }
+                }
+            }
+        }
+
+        /**
+         * calculate goal nanoTime from startTime and current tick number,
+         * then wait until that goal has been reached.
+         *
+         * @return Long.MIN_VALUE if received a shutdown request, current time otherwise (with Long.MIN_VALUE changed by +1)
+         * @since 2023.1.1
+         */
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+
+            for (; ; ) {
+                final long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = (deadline - currentTime + 999999) / 1000000;
+
+                if (sleepTimeMs <= 0) {
+                    if (currentTime == Long.MIN_VALUE) {
+                        return -Long.MAX_VALUE;
+                    } else {
+                        return currentTime;
+                    }
+                }
+                if (isWindows()) {
+                    sleepTimeMs = sleepTimeMs / 10 * 10;
+                }
+
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException ignored) {
+                    if (WORKER_STATE_UPDATER.get(HierarchicalWheelTimer.this) == WORKER_STATE_SHUTDOWN) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Unprocessed timeouts
+         *
+         * @return the set
+         * @since 2023.1.1
+         */
+        Set<Timeout> unprocessedTimeouts() {
+            return Collections.unmodifiableSet(unprocessedTimeouts);
+        }
+    }
+
+    /**
+     * <p>Description: </p>
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 10:12
+     * @since 2023.1.1
+     */
+    private static final class HierarchicalWheelTimeout implements Timeout {
+
+        /** ST_INIT */
+        private static final int ST_INIT = 0;
+        /** ST_CANCELLED */
+        private static final int ST_CANCELLED = 1;
+        /** ST_EXPIRED */
+        private static final int ST_EXPIRED = 2;
+        /** STATE_UPDATER */
+        private static final AtomicIntegerFieldUpdater<HierarchicalWheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(HierarchicalWheelTimeout.class, "state");
+
+        /** Timer */
+        private final HierarchicalWheelTimer timer;
+        /** Task */
+        private final TimerTask task;
+        /** Deadline */
+        private final long deadline;
+
+        /** State */
+        @SuppressWarnings( {"unused", "FieldMayBeFinal", "RedundantFieldInitialization"})
+        private volatile int state = ST_INIT;
+
+        /**
+         * This will be used to chain timeouts in HierarchicalWheelBucket via a double-linked-list.
+         * As only the workerThread will act on it there is no need for synchronization / volatile.
+         */
+        HierarchicalWheelTimeout next;
+        /** Prev */
+        HierarchicalWheelTimeout prev;
+
+        /**
+         * The bucket to which the timeout was added
+         */
+        HierarchicalWheelBucket bucket;
+
+        /**
+         * Hierarchical wheel timeout
+         *
+         * @param timer    timer
+         * @param task     task
+         * @param deadline deadline
+         * @since 2023.1.1
+         */
+        HierarchicalWheelTimeout(HierarchicalWheelTimer timer, TimerTask task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Timer
+         *
+         * @return the timer
+         * @since 2023.1.1
+         */
+        @Override
+        public Timer timer() {
+            return timer;
+        }
+
+        /**
+         * Task
+         *
+         * @return the timer task
+         * @since 2023.1.1
+         */
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        /**
+         * Cancel
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean cancel() {
+            // only update the state it will be removed from HierarchicalWheelBucket on next tick.
+            if (!compareAndSetState(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        /**
+         * Remove
+         *
+         * @since 2023.1.1
+         */
+        void remove() {
+            HierarchicalWheelBucket bucket = this.bucket;
+            if (bucket != null) {
+                bucket.remove(this);
+            } else {
+                timer.pendingTimeouts.decrementAndGet();
+            }
+        }
+
+        /**
+         * Compare and set state
+         *
+         * @param expected expected
+         * @param state    state
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        public boolean compareAndSetState(int expected, int state) {
+            return STATE_UPDATER.compareAndSet(this, expected, state);
+        }
+
+        /**
+         * State
+         *
+         * @return the int
+         * @since 2023.1.1
+         */
+        public int state() {
+            return state;
+        }
+
+        /**
+         * Is cancelled
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isCancelled() {
+            return state() == ST_CANCELLED;
+        }
+
+        /**
+         * Is expired
+         *
+         * @return the boolean
+         * @since 2023.1.1
+         */
+        @Override
+        public boolean isExpired() {
+            return state() == ST_EXPIRED;
+        }
+
+        /**
+         * Expire
+         *
+         * @since 2023.1.1
+         */
+        public void expire() {
+            if (!compareAndSetState(ST_INIT, ST_EXPIRED)) {
+                // Cancelled: the queued cancellation updates the pending timeouts counter on the next tick.
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+
+            try {
+                task.run(this);
+            } catch (Throwable t) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("An exception was thrown by " + TimerTask.class.getSimpleName() + '.', t);
+                }
+            }
+        }
+
+        /**
+         * To string
+         *
+         * @return the string
+         * @since 2023.1.1
+         */
+        @Override
+        public String toString() {
+            final long currentTime = System.nanoTime();
+            long remaining = deadline - currentTime + timer.startTime;
+            String simpleClassName = ClassUtil.getClassName(this.getClass(), true);
+
+            StringBuilder buf = new StringBuilder(192)
+                .append(simpleClassName)
+                .append('(')
+                .append("deadline: ");
+            if (remaining > 0) {
+                buf.append(remaining)
+                    .append(" ns later");
+            } else if (remaining < 0) {
+                buf.append(-remaining)
+                    .append(" ns ago");
+            } else {
+                buf.append("now");
+            }
+
+            if (isCancelled()) {
+                buf.append(", cancelled");
+            }
+
+            return buf.append(", task: ")
+                .append(task())
+                .append(')')
+                .toString();
+        }
+    }
+
+    /**
+     * Bucket that stores HierarchicalWheelTimeouts in a double-linked-list, the timeouts act as nodes themself so
+     * no extra object creation is needed.
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 10:12
+     * @since 2023.1.1
+     */
+    private static final class HierarchicalWheelBucket {
+
+        /**
+         * Used for the linked-list datastructure
+         */
+        private HierarchicalWheelTimeout head;
+        /** Tail */
+        private HierarchicalWheelTimeout tail;
+
+        /**
+         * Add {@link HierarchicalWheelTimeout} to this bucket.
+         *
+         * @param timeout timeout
+         * @since 2023.1.1
+         */
+        void addTimeout(HierarchicalWheelTimeout timeout) {
+            assert timeout.bucket == null;
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Expire all {@link HierarchicalWheelTimeout}s of this level 0 bucket. Every timeout in here is due.
+         *
+         * @param deadline deadline
+         * @since 2023.1.1
+         */
+        void expireTimeouts(long deadline) {
+            HierarchicalWheelTimeout timeout = head;
+
+            while (timeout != null) {
+                // expire() updates the pending timeouts counter only if it wins the race against cancel().
+                HierarchicalWheelTimeout next = unlink(timeout);
+                if (timeout.deadline <= deadline) {
+                    timeout.expire();
+                } else {
+                    // The timeout was placed into a wrong slot. This should never happen.
+                    throw new IllegalStateException(String.format(
+                        "timeout.deadline (%d) > deadline (%d)", timeout.deadline, deadline));
+                }
+                timeout = next;
+            }
+        }
+
+        /**
+         * Remove
+         *
+         * @param timeout timeout
+         * @return the hierarchical wheel timeout
+         * @since 2023.1.1
+         */
+        public HierarchicalWheelTimeout remove(HierarchicalWheelTimeout timeout) {
+            HierarchicalWheelTimeout next = unlink(timeout);
+            timeout.timer.pendingTimeouts.decrementAndGet();
+            return next;
+        }
+
+        /**
+         * Take the timeout out of the linked-list without touching the pending timeouts counter.
+         *
+         * @param timeout timeout
+         * @return the hierarchical wheel timeout
+         * @since 2023.1.1
+         */
+        private HierarchicalWheelTimeout unlink(HierarchicalWheelTimeout timeout) {
+            HierarchicalWheelTimeout next = timeout.next;
+            // remove timeout that was either processed or cancelled by updating the linked-list
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+
+            if (timeout == head) {
+                // if timeout is also the tail we need to adjust the entry too
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                // if the timeout is the tail modify the tail to be the prev node.
+                tail = timeout.prev;
+            }
+            // null out prev, next and bucket to allow for GC.
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        /**
+         * Clear this bucket and return all not expired / cancelled {@link Timeout}s.
+         *
+         * @param set set
+         * @since 2023.1.1
+         */
+        void clearTimeouts(Set<Timeout> set) {
+            for (; ; ) {
+                HierarchicalWheelTimeout timeout = pollTimeout();
+                if (timeout == null) {
+                    return;
+                }
+                if (timeout.isExpired() || timeout.isCancelled()) {
+                    continue;
+                }
+                set.add(timeout);
+            }
+        }
+
+        /**
+         * Detach the head of this bucket without touching the pending timeouts counter.
+         *
+         * @return the hierarchical wheel timeout
+         * @since 2023.1.1
+         */
+        HierarchicalWheelTimeout pollTimeout() {
+            HierarchicalWheelTimeout head = this.head;
+            if (head == null) {
+                return null;
+            }
+            HierarchicalWheelTimeout next = head.next;
+            if (next == null) {
+                tail = this.head = null;
+            } else {
+                this.head = next;
+                next.prev = null;
+            }
+
+            // null out prev and next to allow for GC.
+            head.next = null;
+            head.prev = null;
+            head.bucket = null;
+            return head;
+        }
+    }
+
+    /**
+     * Is windows
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    private boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase(Locale.US).contains("win");
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The handle of a recurring task for {@link Timer}s without native support, see
+ * {@link Timer#scheduleAtFixedRate(TimerTask, long, long, TimeUnit)}.  Every execution is a one-time timeout
+ * scheduled by the previous one; this handle follows them so it can be cancelled at any time.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 14:40
+ * @since 2023.1.1
+ */
+final class RecurringTimeout implements Timeout, TimerTask {
+
+    /** logger */
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTimeout.class);
+
+    /** Timer */
+    private final Timer timer;
+    /** Task */
+    private final TimerTask task;
+    /** &gt; 0: fixed rate, &lt; 0: fixed delay, in nanoseconds */
+    private final long period;
+    /** Scheduled start of the next execution, {@link System#nanoTime()} based, only used for fixed rate */
+    private long nextStart;
+    /** Timeout of the next execution */
+    private volatile Timeout current;
+    /** Cancelled */
+    private volatile boolean cancelled;
+
+    /**
+     * Recurring timeout
+     *
+     * @param timer  timer
+     * @param task   task
+     * @param period period
+     * @since 2023.1.1
+     */
+    private RecurringTimeout(Timer timer, TimerTask task, long period) {
+        this.timer = timer;
+        this.task = task;
+        this.period = period;
+    }
+
+    /**
+     * Schedule
+     *
+     * @param timer        timer
+     * @param task         task
+     * @param initialDelay initial delay
+     * @param period       period in nanoseconds, negative for fixed delay
+     * @param unit         unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    static Timeout schedule(Timer timer, TimerTask task, long initialDelay, long period, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        RecurringTimeout timeout = new RecurringTimeout(timer, task, period);
+        timeout.nextStart = System.nanoTime() + unit.toNanos(initialDelay);
+        timeout.current = timer.newTimeout(timeout, initialDelay, unit);
+        return timeout;
+    }
+
+    /**
+     * Run one execution then schedule the next one, even if this one failed
+     *
+     * @param timeout timeout
+     * @throws Exception exception
+     * @since 2023.1.1
+     */
+    @Override
+    public void run(Timeout timeout) throws Exception {
+        if (this.cancelled) {
+            return;
+        }
+        try {
+            this.task.run(this);
+        } finally {
+            this.rearm();
+        }
+    }
+
+    /**
+     * Schedule the next execution.  Runs in a {@code finally} block, so a timer that was stopped in the meantime
+     * or rejects the timeout ends the recurrence here instead of replacing the exception of the task.
+     *
+     * @since 2023.1.1
+     */
+    private void rearm() {
+        if (this.cancelled || this.timer.isStop()) {
+            return;
+        }
+        long delay;
+        if (this.period > 0) {
+            this.nextStart += this.period;
+            delay = Math.max(0, this.nextStart - System.nanoTime());
+        } else {
+            delay = -this.period;
+        }
+        Timeout next;
+        try {
+            next = this.timer.newTimeout(this, delay, TimeUnit.NANOSECONDS);
+        } catch (IllegalStateException | RejectedExecutionException e) {
+            this.cancelled = true;
+            if (logger.isWarnEnabled()) {
+                logger.warn("Failed to schedule the next execution of " + this.task + ", the recurring task is cancelled", e);
+            }
+            return;
+        }
+        this.current = next;
+        if (this.cancelled) {
+            // cancel() raced with the re-arm and may have missed the new timeout.
+            next.cancel();
+        }
+    }
+
+    /**
+     * Timer
+     *
+     * @return the timer
+     * @since 2023.1.1
+     */
+    @Override
+    public Timer timer() {
+        return this.timer;
+    }
+
+    /**
+     * Task
+     *
+     * @return the timer task
+     * @since 2023.1.1
+     */
+    @Override
+    public TimerTask task() {
+        return this.task;
+    }
+
+    /**
+     * A recurring task never expires, it runs until it is cancelled.
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean isExpired() {
+        return false;
+    }
+
+    /**
+     * Is cancelled
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Cancel
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public synchronized boolean cancel() {
+        if (this.cancelled) {
+            return false;
+        }
+        this.cancelled = true;
+        this.current.cancel();
+        return true;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "RecurringTimeout(" + (this.period > 0 ? "fixed rate: " : "fixed delay: ") + Math.abs(this.period)
+               + " ns" + (this.cancelled ? ", cancelled" : "") + ", task: " + this.task + ')';
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Timer} that spreads its timeouts over several {@link HashedWheelTimer}s, each one with its own worker
+ * thread and its own queues.
+ * <p>
+ * A single {@link HashedWheelTimer} processes every timeout on one thread, which caps the timeout throughput at
+ * one core.  This timer removes that cap on many-core hosts:
+ * <ul>
+ *     <li>{@link #newTimeout(Object, TimerTask, long, TimeUnit)} picks the shard by the hash of a key, so all
+ *     timeouts of the same key (connection, session...) are handled in order by the same worker.</li>
+ *     <li>{@link #newTimeout(TimerTask, long, TimeUnit)} picks the shard by the calling thread, so producers
+ *     do not contend on the same queue.</li>
+ * </ul>
+ * The shards are created once and count as normal {@link HashedWheelTimer} instances, keep the shard count
+ * close to the number of cores.  {@link Timeout#timer()} of the returned handles is the shard that owns them.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 14:02
+ * @since 2023.1.1
+ */
+@SuppressWarnings("all")
+public class ShardedWheelTimer implements Timer {
+
+    /** Shards */
+    private final HashedWheelTimer[] shards;
+
+    /**
+     * Creates a timer with one shard per available processor, each with the default thread factory,
+     * tick duration and number of ticks per wheel.
+     *
+     * @since 2023.1.1
+     */
+    public ShardedWheelTimer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a timer with {@code shards} shards, each with the default thread factory, tick duration and
+     * number of ticks per wheel.
+     *
+     * @param shards number of shards
+     * @throws IllegalArgumentException if {@code shards} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public ShardedWheelTimer(int shards) {
+        this(shards, Executors.defaultThreadFactory(), 100, TimeUnit.MILLISECONDS, 512, -1);
+    }
+
+    /**
+     * Creates a timer with {@code shards} identically configured shards.
+     *
+     * @param shards                     number of shards
+     * @param threadFactory              a {@link ThreadFactory} that creates the worker thread of every shard
+     * @param tickDuration               the duration between tick
+     * @param unit                       the time unit of the {@code tickDuration}
+     * @param ticksPerWheel              the size of the wheel of every shard
+     * @param maxPendingTimeoutsPerShard the maximum number of pending timeouts of every shard, no limit if this
+     *                                   value is 0 or negative.
+     * @throws NullPointerException     if either of {@code threadFactory} and {@code unit} is {@code null}
+     * @throws IllegalArgumentException if either of {@code shards}, {@code tickDuration} and
+     *                                  {@code ticksPerWheel} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public ShardedWheelTimer(int shards, ThreadFactory threadFactory,
+                             long tickDuration, TimeUnit unit, int ticksPerWheel,
+                             long maxPendingTimeoutsPerShard) {
+        this(shards, index -> new HashedWheelTimer(threadFactory, tickDuration, unit, ticksPerWheel,
+                                                   maxPendingTimeoutsPerShard));
+    }
+
+    /**
+     * Creates a timer whose shards are built by {@code shardFactory}, e.g. to give every shard its own task
+     * executor or {@link TickWaitStrategy}.
+     *
+     * @param shards       number of shards
+     * @param shardFactory creates the shard of the given index
+     * @throws NullPointerException     if {@code shardFactory} is {@code null} or returns {@code null}
+     * @throws IllegalArgumentException if {@code shards} is &lt;= 0
+     * @since 2023.1.1
+     */
+    public ShardedWheelTimer(int shards, IntFunction<? extends HashedWheelTimer> shardFactory) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shards must be greater than 0: " + shards);
+        }
+        if (shardFactory == null) {
+            throw new NullPointerException("shardFactory");
+        }
+        this.shards = new HashedWheelTimer[shards];
+        for (int i = 0; i < shards; i++) {
+            HashedWheelTimer shard = shardFactory.apply(i);
+            if (shard == null) {
+                throw new NullPointerException("shard " + i);
+            }
+            this.shards[i] = shard;
+        }
+    }
+
+    /**
+     * Schedules the task on the shard of the calling thread.
+     *
+     * @param task  task
+     * @param delay delay
+     * @param unit  unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        return this.threadShard().newTimeout(task, delay, unit);
+    }
+
+    /**
+     * Schedules the task on the shard that owns {@code key}: timeouts of equal keys always share a worker.
+     *
+     * @param key   key, {@code null} is routed like any other value
+     * @param task  task
+     * @param delay delay
+     * @param unit  unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    public Timeout newTimeout(Object key, TimerTask task, long delay, TimeUnit unit) {
+        return this.shardFor(key).newTimeout(task, delay, unit);
+    }
+
+    /**
+     * The whole batch goes to the shard of the calling thread, so it is still enqueued at once.
+     *
+     * @param tasks tasks
+     * @param delay delay
+     * @param unit  unit
+     * @return the list
+     * @since 2023.1.1
+     */
+    @Override
+    public List<Timeout> newTimeouts(Collection<? extends TimerTask> tasks, long delay, TimeUnit unit) {
+        return this.threadShard().newTimeouts(tasks, delay, unit);
+    }
+
+    /**
+     * The whole batch goes to the shard of the calling thread, so it is still enqueued at once.
+     *
+     * @param tasks  tasks
+     * @param delays delays
+     * @param unit   unit
+     * @return the list
+     * @since 2023.1.1
+     */
+    @Override
+    public List<Timeout> newTimeouts(List<? extends TimerTask> tasks, long[] delays, TimeUnit unit) {
+        return this.threadShard().newTimeouts(tasks, delays, unit);
+    }
+
+    /**
+     * The recurring task stays on the shard of the calling thread for all its executions.
+     *
+     * @param task         task
+     * @param initialDelay initial delay
+     * @param period       period
+     * @param unit         unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout scheduleAtFixedRate(TimerTask task, long initialDelay, long period, TimeUnit unit) {
+        return this.threadShard().scheduleAtFixedRate(task, initialDelay, period, unit);
+    }
+
+    /**
+     * The recurring task stays on the shard of the calling thread for all its executions.
+     *
+     * @param task         task
+     * @param initialDelay initial delay
+     * @param delay        delay
+     * @param unit         unit
+     * @return the timeout
+     * @since 2023.1.1
+     */
+    @Override
+    public Timeout scheduleWithFixedDelay(TimerTask task, long initialDelay, long delay, TimeUnit unit) {
+        return this.threadShard().scheduleWithFixedDelay(task, initialDelay, delay, unit);
+    }
+
+    /**
+     * Stops every shard and returns the unprocessed timeouts of all of them. When called from the worker of a
+     * shard, the other shards are still stopped before the {@link IllegalStateException} is rethrown.
+     *
+     * @return the set
+     * @since 2023.1.1
+     */
+    @Override
+    public Set<Timeout> stop() {
+        Set<Timeout> unprocessed = new HashSet<>();
+        IllegalStateException failure = null;
+        for (HashedWheelTimer shard : this.shards) {
+            try {
+                unprocessed.addAll(shard.stop());
+            } catch (IllegalStateException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Collections.unmodifiableSet(unprocessed);
+    }
+
+    /**
+     * Is stop
+     *
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @Override
+    public boolean isStop() {
+        for (HashedWheelTimer shard : this.shards) {
+            if (!shard.isStop()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Starts the worker of every shard.
+     *
+     * @since 2023.1.1
+     */
+    public void start() {
+        for (HashedWheelTimer shard : this.shards) {
+            shard.start();
+        }
+    }
+
+    /**
+     * Returns the number of pending timeouts over all shards.
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long pendingTimeouts() {
+        long pending = 0;
+        for (HashedWheelTimer shard : this.shards) {
+            pending += shard.pendingTimeouts();
+        }
+        return pending;
+    }
+
+    /**
+     * Number of shards
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int shardCount() {
+        return this.shards.length;
+    }
+
+    /**
+     * Returns the shard at {@code index}, e.g. to read its {@link HashedWheelTimer#metrics()}.
+     *
+     * @param index index
+     * @return the hashed wheel timer
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer shard(int index) {
+        return this.shards[index];
+    }
+
+    /**
+     * Returns the shard that owns {@code key}.
+     *
+     * @param key key
+     * @return the hashed wheel timer
+     * @since 2023.1.1
+     */
+    public HashedWheelTimer shardFor(Object key) {
+        return this.shards[this.indexOf(key == null ? 0 : key.hashCode())];
+    }
+
+    /**
+     * Thread shard
+     *
+     * @return the hashed wheel timer
+     * @since 2023.1.1
+     */
+    private HashedWheelTimer threadShard() {
+        long id = Thread.currentThread().getId();
+        return this.shards[this.indexOf((int) (id ^ (id >>> 32)))];
+    }
+
+    /**
+     * Index of
+     *
+     * @param hash hash
+     * @return the int
+     * @since 2023.1.1
+     */
+    private int indexOf(int hash) {
+        // Spread the higher bits downwards, the same way HashMap does.
+        return Math.floorMod(hash ^ (hash >>> 16), this.shards.length);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the worker thread of a {@link HashedWheelTimer} waits for the next tick.
+ * <p>
+ * The strategies trade CPU for timing precision:
+ * <ul>
+ *     <li>{@link #SLEEP}: {@link Thread#sleep(long)}, rounded up to whole milliseconds. Cheapest, but tick
+ *     durations below a few milliseconds are not honoured (default).</li>
+ *     <li>{@link #PARK}: {@link LockSupport#parkNanos(long)}. Sub-millisecond ticks at a small CPU cost,
+ *     precision is bounded by the OS timer slack (usually 50µs on Linux).</li>
+ *     <li>{@link #YIELD}: spins with {@link Thread#yield()}. Keeps the worker runnable, gives the core away
+ *     when other threads need it.</li>
+ *     <li>{@link #BUSY_SPIN}: spins with {@link Thread#onSpinWait()}. Lowest jitter, burns a whole core and
+ *     should only be used on a dedicated / isolated CPU.</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 13:20
+ * @since 2023.1.1
+ */
+public enum TickWaitStrategy {
+
+    /** Sleep */
+    SLEEP {
+        @Override
+        void await(long nanos) throws InterruptedException {
+            long sleepTimeMs = (nanos + 999999) / 1000000;
+            if (WINDOWS) {
+                // Windows sleeps in steps of 10 ms.
+                sleepTimeMs = sleepTimeMs / 10 * 10;
+            }
+            Thread.sleep(sleepTimeMs);
+        }
+    },
+
+    /** Park */
+    PARK {
+        @Override
+        void await(long nanos) throws InterruptedException {
+            LockSupport.parkNanos(this, nanos);
+            checkInterrupted();
+        }
+    },
+
+    /** Yield */
+    YIELD {
+        @Override
+        void await(long nanos) throws InterruptedException {
+            Thread.yield();
+            checkInterrupted();
+        }
+    },
+
+    /** Busy spin */
+    BUSY_SPIN {
+        @Override
+        void await(long nanos) throws InterruptedException {
+            Thread.onSpinWait();
+            checkInterrupted();
+        }
+    };
+
+    /** WINDOWS */
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.US).contains("win");
+
+    /**
+     * Wait at most {@code nanos}, the caller re-checks the clock and calls again while the tick is not reached.
+     *
+     * @param nanos the time left until the next tick
+     * @throws InterruptedException if the worker was interrupted, i.e. the timer is being stopped
+     * @since 2023.1.1
+     */
+    abstract void await(long nanos) throws InterruptedException;
+
+    /**
+     * Check interrupted
+     *
+     * @throws InterruptedException interrupted exception
+     * @since 2023.1.1
+     */
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+}
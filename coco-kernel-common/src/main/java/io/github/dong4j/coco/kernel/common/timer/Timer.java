@@ -16,6 +16,9 @@
 
 package io.github.dong4j.coco.kernel.common.timer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +49,112 @@ public interface Timer {
      */
     Timeout newTimeout(TimerTask task, long delay, TimeUnit unit);
 
+    /**
+     * Schedules all the specified {@link TimerTask}s for one-time execution after the same delay.
+     * Implementations may enqueue the whole batch at once, the default implementation simply
+     * calls {@link #newTimeout(TimerTask, long, TimeUnit)} for every task.
+     *
+     * @param tasks tasks
+     * @param delay delay
+     * @param unit  unit
+     * @return the handles associated with the tasks, in iteration order of {@code tasks}
+     * @throws IllegalStateException      if this timer has been {@linkplain #stop() stopped} already
+     * @throws RejectedExecutionException if the pending timeouts are too many and creating new timeout
+     *                                    can cause instability in the system.
+     * @since 2023.1.1
+     */
+    default List<Timeout> newTimeouts(Collection<? extends TimerTask> tasks, long delay, TimeUnit unit) {
+        if (tasks == null) {
+            throw new NullPointerException("tasks");
+        }
+        List<Timeout> result = new ArrayList<>(tasks.size());
+        for (TimerTask task : tasks) {
+            result.add(newTimeout(task, delay, unit));
+        }
+        return result;
+    }
+
+    /**
+     * Schedules the specified {@link TimerTask}s for one-time execution, the task at index {@code i}
+     * runs after {@code delays[i]}.
+     *
+     * @param tasks  tasks
+     * @param delays delays, one per task
+     * @param unit   unit
+     * @return the handles associated with the tasks, in the order of {@code tasks}
+     * @throws IllegalArgumentException   if {@code tasks} and {@code delays} differ in size
+     * @throws IllegalStateException      if this timer has been {@linkplain #stop() stopped} already
+     * @throws RejectedExecutionException if the pending timeouts are too many and creating new timeout
+     *                                    can cause instability in the system.
+     * @since 2023.1.1
+     */
+    default List<Timeout> newTimeouts(List<? extends TimerTask> tasks, long[] delays, TimeUnit unit) {
+        if (tasks == null) {
+            throw new NullPointerException("tasks");
+        }
+        if (delays == null) {
+            throw new NullPointerException("delays");
+        }
+        if (tasks.size() != delays.length) {
+            throw new IllegalArgumentException("tasks.size() (" + tasks.size() + ") != delays.length ("
+                                               + delays.length + ")");
+        }
+        List<Timeout> result = new ArrayList<>(delays.length);
+        for (int i = 0; i < delays.length; i++) {
+            result.add(newTimeout(tasks.get(i), delays[i], unit));
+        }
+        return result;
+    }
+
+    /**
+     * Schedules the specified {@link TimerTask} for repeated execution, first after {@code initialDelay} and then
+     * every {@code period} measured from the previous scheduled start. Runs that fall behind are executed as soon
+     * as possible and never overlap. Cancelling the returned handle stops all further executions.
+     * <p>
+     * The default implementation re-arms the task with {@link #newTimeout(TimerTask, long, TimeUnit)} after every
+     * run, implementations are free to reuse the handle instead.
+     *
+     * @param task         task
+     * @param initialDelay delay of the first execution
+     * @param period       period between the scheduled starts of two executions
+     * @param unit         unit
+     * @return a handle which stays associated with the task for all its executions
+     * @throws IllegalArgumentException   if {@code period} is &lt;= 0
+     * @throws IllegalStateException      if this timer has been {@linkplain #stop() stopped} already
+     * @throws RejectedExecutionException if the pending timeouts are too many and creating new timeout
+     *                                    can cause instability in the system.
+     * @since 2023.1.1
+     */
+    default Timeout scheduleAtFixedRate(TimerTask task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than 0: " + period);
+        }
+        return RecurringTimeout.schedule(this, task, initialDelay, unit.toNanos(period), unit);
+    }
+
+    /**
+     * Schedules the specified {@link TimerTask} for repeated execution, first after {@code initialDelay} and then
+     * {@code delay} after the end of the previous execution. Cancelling the returned handle stops all further
+     * executions.
+     *
+     * @param task         task
+     * @param initialDelay delay of the first execution
+     * @param delay        delay between the end of an execution and the start of the next one
+     * @param unit         unit
+     * @return a handle which stays associated with the task for all its executions
+     * @throws IllegalArgumentException   if {@code delay} is &lt;= 0
+     * @throws IllegalStateException      if this timer has been {@linkplain #stop() stopped} already
+     * @throws RejectedExecutionException if the pending timeouts are too many and creating new timeout
+     *                                    can cause instability in the system.
+     * @since 2023.1.1
+     */
+    default Timeout scheduleWithFixedDelay(TimerTask task, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be greater than 0: " + delay);
+        }
+        return RecurringTimeout.schedule(this, task, initialDelay, -unit.toNanos(delay), unit);
+    }
+
     /**
      * Releases all resources acquired by this {@link Timer} and cancels all
      * tasks which were scheduled but not executed yet.
@@ -0,0 +1,370 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of a {@link DurableWheelTimer}, kept in a memory-mapped file.
+ * <p>
+ * Layout: a 4 byte magic followed by records, each one
+ * {@code int length | byte type | long id | long deadline | short keyLength | key | int payloadLength | payload | int crc},
+ * where {@code length} counts the bytes from {@code type} to the end of {@code payload} and {@code crc} is the
+ * CRC32 of these bytes.  Replay stops at the first record with a zero length or a wrong checksum, which is
+ * where a crash interrupted the last write.
+ * <p>
+ * Writes go to the page cache and survive a crash of the process; they survive a crash of the host only with
+ * {@code syncEachWrite}.  Not thread safe, the owning timer serializes all calls.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 16:20
+ * @since 2023.1.1
+ */
+final class TimerJournal {
+
+    /** "COJ1" */
+    private static final int MAGIC = 0x434F4A31;
+    /** Bytes of the magic */
+    private static final int HEADER_SIZE = 4;
+    /** Length, type, id, deadline, key length, payload length and crc */
+    private static final int RECORD_OVERHEAD = 4 + 1 + 8 + 8 + 2 + 4 + 4;
+    /** Maximum length of an utf-8 encoded key */
+    static final int MAX_KEY_LENGTH = 0xFFFF;
+
+    /** A timeout was scheduled */
+    static final byte SCHEDULE = 1;
+    /** A timeout was cancelled */
+    static final byte CANCEL = 2;
+    /** A timeout expired and its task ran */
+    static final byte EXPIRE = 3;
+
+    /** File */
+    private final Path file;
+    /** Capacity the journal is created with and shrinks back to on compaction */
+    private final int initialCapacity;
+    /** Sync each write */
+    private final boolean syncEachWrite;
+
+    /** Channel */
+    private FileChannel channel;
+    /** Buffer */
+    private MappedByteBuffer buffer;
+    /** Records still live after the replay, in the order they were scheduled */
+    private final Map<String, Record> recovered = new LinkedHashMap<>();
+    /** Highest record id found by the replay */
+    private long lastId;
+
+    /**
+     * Opens the journal, creating it when it does not exist, and replays it.
+     *
+     * @param file          file
+     * @param capacity      capacity in bytes of a new journal
+     * @param syncEachWrite whether every write is forced to the storage device
+     * @throws IOException if the file can not be mapped or is not a journal
+     * @since 2023.1.1
+     */
+    TimerJournal(Path file, int capacity, boolean syncEachWrite) throws IOException {
+        if (capacity <= HEADER_SIZE + RECORD_OVERHEAD) {
+            throw new IllegalArgumentException("capacity too small: " + capacity);
+        }
+        this.file = file;
+        this.initialCapacity = capacity;
+        this.syncEachWrite = syncEachWrite;
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+        long size = this.channel.size();
+        if (size > Integer.MAX_VALUE) {
+            this.channel.close();
+            throw new IOException("timer journal too large: " + file);
+        }
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, capacity));
+        int magic = this.buffer.getInt(0);
+        if (magic == 0) {
+            this.buffer.putInt(0, MAGIC);
+            this.buffer.position(HEADER_SIZE);
+        } else if (magic != MAGIC) {
+            this.channel.close();
+            throw new IOException("not a timer journal: " + file);
+        } else {
+            this.replay();
+        }
+    }
+
+    /**
+     * Read all valid records and leave the position behind the last one.
+     *
+     * @since 2023.1.1
+     */
+    private void replay() {
+        int position = HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        while (position + 4 <= this.buffer.capacity()) {
+            int length = this.buffer.getInt(position);
+            int end = position + 4 + length + 4;
+            if (length <= 0 || end > this.buffer.capacity() || end < 0) {
+                break;
+            }
+            crc.reset();
+            crc.update(this.buffer.duplicate().position(position + 4).limit(position + 4 + length));
+            if ((int) crc.getValue() != this.buffer.getInt(position + 4 + length)) {
+                break;
+            }
+            this.apply(position + 4);
+            position = end;
+        }
+        this.buffer.position(position);
+    }
+
+    /**
+     * Apply the record whose body starts at {@code index} to {@link #recovered}
+     *
+     * @param index index
+     * @since 2023.1.1
+     */
+    private void apply(int index) {
+        byte type = this.buffer.get(index);
+        long id = this.buffer.getLong(index + 1);
+        long deadline = this.buffer.getLong(index + 9);
+        int keyLength = this.buffer.getShort(index + 17) & 0xFFFF;
+        byte[] key = new byte[keyLength];
+        this.buffer.get(index + 19, key);
+        int payloadLength = this.buffer.getInt(index + 19 + keyLength);
+        String name = new String(key, StandardCharsets.UTF_8);
+        this.lastId = Math.max(this.lastId, id);
+
+        if (type == SCHEDULE) {
+            byte[] payload = new byte[payloadLength];
+            this.buffer.get(index + 23 + keyLength, payload);
+            // A new schedule of the same key replaces the previous one.
+            this.recovered.remove(name);
+            this.recovered.put(name, new Record(id, name, deadline, payload));
+        } else {
+            Record record = this.recovered.get(name);
+            // Only the record with the same id, the key may have been scheduled again meanwhile.
+            if (record != null && record.id == id) {
+                this.recovered.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Records which were scheduled and neither cancelled nor expired when the journal was opened
+     *
+     * @return the collection
+     * @since 2023.1.1
+     */
+    Collection<Record> recovered() {
+        return this.recovered.values();
+    }
+
+    /**
+     * Highest record id found in the journal when it was opened
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    long lastId() {
+        return this.lastId;
+    }
+
+    /**
+     * Append a record
+     *
+     * @param type   type
+     * @param record record
+     * @return {@code false} if the journal is full, compact it and try again
+     * @since 2023.1.1
+     */
+    boolean append(byte type, Record record) {
+        int size = sizeOf(type, record);
+        int position = this.buffer.position();
+        if (position + size > this.buffer.capacity()) {
+            return false;
+        }
+        this.write(this.buffer, type, record);
+        if (this.buffer.remaining() >= 4) {
+            // Terminate the journal explicitly, so a replay never reads leftovers of a torn write.
+            this.buffer.putInt(this.buffer.position(), 0);
+        }
+        if (this.syncEachWrite) {
+            this.buffer.force(position, size);
+        }
+        return true;
+    }
+
+    /**
+     * Rewrite the journal with only the given records.  The new journal is written next to the old one and
+     * moved over it once complete, a crash in between leaves the old journal intact.  It keeps the initial
+     * capacity unless the live records need more.
+     *
+     * @param live  the records to keep
+     * @param extra bytes which must be free after the compaction
+     * @throws IOException io exception
+     * @since 2023.1.1
+     */
+    void compact(Collection<Record> live, int extra) throws IOException {
+        long needed = (long) HEADER_SIZE + extra + 4;
+        for (Record record : live) {
+            needed += sizeOf(SCHEDULE, record);
+        }
+        long capacity = Math.max(this.initialCapacity, needed * 2);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("timer journal can not hold " + live.size() + " timeouts");
+        }
+
+        Path compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+        Files.deleteIfExists(compacted);
+        FileChannel newChannel = FileChannel.open(compacted, StandardOpenOption.CREATE_NEW,
+                                                  StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newBuffer;
+        try {
+            newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            newBuffer.putInt(MAGIC);
+            for (Record record : live) {
+                this.write(newBuffer, SCHEDULE, record);
+            }
+            newBuffer.force();
+            Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            newChannel.close();
+            Files.deleteIfExists(compacted);
+            throw e;
+        }
+        // The channel still refers to the moved file.
+        this.channel.close();
+        this.channel = newChannel;
+        this.buffer = newBuffer;
+    }
+
+    /**
+     * Capacity
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    int capacity() {
+        return this.buffer.capacity();
+    }
+
+    /**
+     * Used bytes
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    int size() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Close
+     *
+     * @throws IOException io exception
+     * @since 2023.1.1
+     */
+    void close() throws IOException {
+        this.buffer.force();
+        this.channel.close();
+    }
+
+    /**
+     * Write
+     *
+     * @param target target
+     * @param type   type
+     * @param record record
+     * @since 2023.1.1
+     */
+    private void write(MappedByteBuffer target, byte type, Record record) {
+        byte[] payload = type == SCHEDULE ? record.payload : Record.EMPTY;
+        int start = target.position();
+        target.putInt(sizeOf(type, record) - 8);
+        target.put(type)
+            .putLong(record.id)
+            .putLong(record.deadline)
+            .putShort((short) record.key.length)
+            .put(record.key)
+            .putInt(payload.length)
+            .put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(target.duplicate().position(start + 4).limit(target.position()));
+        target.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Size of
+     *
+     * @param type   type
+     * @param record record
+     * @return the int
+     * @since 2023.1.1
+     */
+    private static int sizeOf(byte type, Record record) {
+        return RECORD_OVERHEAD + record.key.length + (type == SCHEDULE ? record.payload.length : 0);
+    }
+
+    /**
+     * Size of a schedule record, i.e. the room an append of {@code record} may need
+     *
+     * @param record record
+     * @return the int
+     * @since 2023.1.1
+     */
+    static int sizeOf(Record record) {
+        return sizeOf(SCHEDULE, record);
+    }
+
+    /**
+     * <p>Description: A durable timeout as stored in the journal </p>
+     *
+     * @version 1.0.0
+     * @date 2026.10.18 16:20
+     * @since 2023.1.1
+     */
+    static final class Record {
+
+        /** EMPTY */
+        static final byte[] EMPTY = new byte[0];
+
+        /** Unique id, tells apart schedules of the same key */
+        final long id;
+        /** Key, utf-8 */
+        final byte[] key;
+        /** Key */
+        final String name;
+        /** Deadline in milliseconds since the epoch */
+        final long deadline;
+        /** Payload */
+        final byte[] payload;
+
+        /**
+         * Record
+         *
+         * @param id       id
+         * @param name     name
+         * @param deadline deadline
+         * @param payload  payload
+         * @since 2023.1.1
+         */
+        Record(long id, String name, long deadline, byte[] payload) {
+            this.id = id;
+            this.name = name;
+            this.key = name.getBytes(StandardCharsets.UTF_8);
+            this.deadline = deadline;
+            this.payload = payload == null ? EMPTY : payload;
+            if (this.key.length > MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException("key longer than " + MAX_KEY_LENGTH + " bytes: " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.dong4j.coco.kernel.common.timer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.dong4j.coco.kernel.common.support.LatencyHistogram;
+
+/**
+ * Runtime statistics of a {@link HashedWheelTimer}, all values are in nanoseconds.
+ * <p>
+ * Recording never allocates, so the statistics are always on.  Read them directly or export them with
+ * {@link HashedWheelTimerMeterBinder} when Micrometer is on the classpath.
+ *
+ * @version 1.0.0
+ * @date 2026.10.18 11:05
+ * @see HashedWheelTimer#metrics()
+ * @since 2023.1.1
+ */
+public final class TimerMetrics {
+
+    /** How late the worker started each tick */
+    private final LatencyHistogram tickDrift = new LatencyHistogram();
+    /** How late each timeout expired compared to its deadline */
+    private final LatencyHistogram expiryLateness = new LatencyHistogram();
+    /** How long each {@link TimerTask#run(Timeout)} took */
+    private final LatencyHistogram taskRunTime = new LatencyHistogram();
+    /** How many ticks stopped transferring new timeouts because of the per tick cap */
+    private final AtomicLong transferCapHits = new AtomicLong();
+
+    /**
+     * Tick drift
+     *
+     * @return the latency histogram
+     * @since 2023.1.1
+     */
+    public LatencyHistogram tickDrift() {
+        return tickDrift;
+    }
+
+    /**
+     * Expiry lateness
+     *
+     * @return the latency histogram
+     * @since 2023.1.1
+     */
+    public LatencyHistogram expiryLateness() {
+        return expiryLateness;
+    }
+
+    /**
+     * Task run time
+     *
+     * @return the latency histogram
+     * @since 2023.1.1
+     */
+    public LatencyHistogram taskRunTime() {
+        return taskRunTime;
+    }
+
+    /**
+     * Transfer cap hits
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long transferCapHits() {
+        return transferCapHits.get();
+    }
+
+    /**
+     * Record transfer cap hit
+     *
+     * @since 2023.1.1
+     */
+    void recordTransferCapHit() {
+        transferCapHits.incrementAndGet();
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "TimerMetrics{tickDrift=" + tickDrift + ", expiryLateness=" + expiryLateness
+               + ", taskRunTime=" + taskRunTime + ", transferCapHits=" + transferCapHits + '}';
+    }
+}
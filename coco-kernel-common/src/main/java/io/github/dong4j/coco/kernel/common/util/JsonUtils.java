@@ -2,18 +2,22 @@ package io.github.dong4j.coco.kernel.common.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.PackageVersion;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
 import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -25,11 +29,27 @@ import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
 
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -47,6 +67,7 @@ import cn.hutool.core.util.StrUtil;
 import io.github.dong4j.coco.kernel.common.asserts.Assertions;
 import io.github.dong4j.coco.kernel.common.constant.ConfigDefaultValue;
 import io.github.dong4j.coco.kernel.common.constant.ConfigKey;
+import io.github.dong4j.coco.kernel.common.processor.JsonTypeNameIndexProcessor;
 import io.github.dong4j.coco.kernel.common.serialize.StringTrimmerDeserializer;
 import io.github.dong4j.coco.kernel.common.serialize.StringTrimmerSerializer;
 import jakarta.validation.ConstraintViolation;
@@ -78,6 +99,8 @@ public class JsonUtils {
     public static final String PATTERN_DATETIME = System.getProperty(ConfigKey.JSON_DATE_FORMAT, ConfigDefaultValue.DEFAULT_DATE_FORMAT);
     /** Empty array */
     public static final byte[] EMPTY_ARRAY = new byte[0];
+    /** isJson 的深度与长度不限制 */
+    public static final int UNLIMITED = -1;
     /** MESSAGE */
     private static final String MESSAGE = "待解析的数据为空";
 
@@ -147,22 +170,34 @@ public class JsonUtils {
 
     /**
      * 根据自定义 mapper 判断字符串是否为 json 格式.
-     * 判断转换前后的字符串内容是否一样
+     * 使用 mapper 的解析特性 (如单引号) 逐个读取 token, 只检查格式是否完整, 不构建树也不重新序列化; 根值之后不能有其他内容.
      *
      * @param mapper       mapper
      * @param jsonInString json in string
      * @return the boolean
      * @since 1.0.0
      */
-    @SuppressWarnings("java:S3252")
     public static boolean isJson(@NotNull ObjectMapper mapper, String jsonInString) {
-        if (StrUtil.isBlank(jsonInString)) {
+        return isJson(mapper, jsonInString, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * 根据自定义 mapper 判断字符串是否为 json 格式, 超过嵌套深度或长度限制时返回 false.
+     *
+     * @param mapper       mapper
+     * @param jsonInString json in string
+     * @param maxDepth     最大嵌套深度, 小于等于 0 表示不限制
+     * @param maxLength    最大字符数, 小于等于 0 表示不限制
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    @SuppressWarnings("java:S3252")
+    public static boolean isJson(@NotNull ObjectMapper mapper, String jsonInString, int maxDepth, long maxLength) {
+        if (StrUtil.isBlank(jsonInString) || maxLength > 0 && jsonInString.length() > maxLength) {
             return false;
         }
-        try {
-            JsonNode jsonNode = mapper.readTree(jsonInString);
-            String jStr = jsonNode.toString();
-            return StrUtil.trim(jStr).equals(StrUtil.trim(jsonInString));
+        try (JsonParser parser = mapper.createParser(jsonInString)) {
+            return isWellFormed(parser, maxDepth);
         } catch (IOException e) {
             return false;
         }
@@ -188,17 +223,119 @@ public class JsonUtils {
      * @since 1.0.0
      */
     public static boolean isJson(@NotNull ObjectMapper mapper, byte[] jsonBytes) {
-        if (jsonBytes.length == 0) {
+        return isJson(mapper, jsonBytes, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * 根据自定义 mapper 判断字节数组是否为 json 格式, 超过嵌套深度或长度限制时返回 false.
+     *
+     * @param mapper    mapper
+     * @param jsonBytes json bytes
+     * @param maxDepth  最大嵌套深度, 小于等于 0 表示不限制
+     * @param maxBytes  最大字节数, 小于等于 0 表示不限制
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public static boolean isJson(@NotNull ObjectMapper mapper, byte[] jsonBytes, int maxDepth, long maxBytes) {
+        if (jsonBytes.length == 0 || maxBytes > 0 && jsonBytes.length > maxBytes) {
             return false;
         }
-        try {
-            mapper.readTree(jsonBytes);
-            return true;
+        try (JsonParser parser = mapper.createParser(jsonBytes)) {
+            return isWellFormed(parser, maxDepth);
         } catch (IOException e) {
             return false;
         }
     }
 
+    /**
+     * 判断输入流的内容是否为 json 格式, 读取完毕后不关闭输入流.
+     *
+     * @param in       in
+     * @param maxDepth 最大嵌套深度, 小于等于 0 表示不限制
+     * @param maxBytes 最多读取的字节数, 超过时返回 false, 小于等于 0 表示不限制
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public static boolean isJson(@NotNull InputStream in, int maxDepth, long maxBytes) {
+        return isJson(getInstance(), in, maxDepth, maxBytes);
+    }
+
+    /**
+     * 根据自定义 mapper 判断输入流的内容是否为 json 格式, 读取完毕后不关闭输入流.
+     * 用于校验请求体等来源不可信的内容, 不需要先读成字符串或字节数组.
+     *
+     * @param mapper   mapper
+     * @param in       in
+     * @param maxDepth 最大嵌套深度, 小于等于 0 表示不限制
+     * @param maxBytes 最多读取的字节数, 超过时返回 false, 小于等于 0 表示不限制
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public static boolean isJson(@NotNull ObjectMapper mapper, @NotNull InputStream in, int maxDepth, long maxBytes) {
+        InputStream source = maxBytes > 0 ? new LimitedInputStream(in, maxBytes) : in;
+        try (JsonParser parser = mapper.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return isWellFormed(parser, maxDepth);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 逐个读取 token, 根值完整且之后没有其他 token 时为合法 json. 字符串的内容不会被解码.
+     *
+     * @param parser   parser
+     * @param maxDepth 最大嵌套深度, 小于等于 0 表示不限制
+     * @return the boolean
+     * @throws IOException 格式错误
+     * @since 2023.1.1
+     */
+    private static boolean isWellFormed(@NotNull JsonParser parser, int maxDepth) throws IOException {
+        JsonToken token = parser.nextToken();
+        int depth = 0;
+        while (token != null) {
+            if (token.isStructStart()) {
+                if (++depth > maxDepth && maxDepth > 0) {
+                    return false;
+                }
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                return parser.nextToken() == null;
+            }
+            token = parser.nextToken();
+        }
+        return false;
+    }
+
+    /**
+     * 用 mapper 逐个 token 复制合法的 json 字符串: 数字按原文写出, 不经过 double 转换; 重复的键原样保留
+     *
+     * @param mapper mapper
+     * @param json   已校验的 json 字符串
+     * @param pretty pretty
+     * @return the string
+     * @since 2023.1.1
+     */
+    private static String copyJson(@NotNull ObjectMapper mapper, String json, boolean pretty) {
+        StringWriter out = new StringWriter(json.length());
+        ObjectWriter writer = pretty ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer();
+        try (JsonParser parser = mapper.createParser(json);
+             JsonGenerator generator = writer.createGenerator(out)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                    generator.writeNumber(parser.getText());
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } catch (IOException e) {
+            throw ExceptionUtil.wrapRuntime(e);
+        }
+        return out.toString();
+    }
+
     /**
      * 将对象序列化成 json 字符串.
      *
@@ -238,7 +375,7 @@ public class JsonUtils {
 
     /**
      * 使用自定义的 mapper 将对象序列化成 json 字符串, 根据 pretty 判断是否格式化 json,
-     * 如果 object 是 String 类型, 将直接返回原始字符串.
+     * 如果 object 是 json 字符串, 按 token 重新写出 (数字原文与重复的键保持不变); 其他字符串直接返回原始字符串.
      *
      * @param mapper mapper
      * @param object object
@@ -251,15 +388,14 @@ public class JsonUtils {
         if (object == null) {
             return StrPool.EMPTY_JSON;
         }
-        // 如果是 string, 先转为 object 再转为 json, 避免转义字符
+        // 如果是 string, 按 token 复制为 json, 避免转义字符
         if (object instanceof String) {
             String str = StrUtil.trim((String) object);
             if (isJson(mapper, str)) {
-                object = parse(str, Object.class);
-            } else {
-                // 非 json 字符串, 直接返回原始字符串
-                return str;
+                return copyJson(mapper, str, pretty);
             }
+            // 非 json 字符串, 直接返回原始字符串
+            return str;
         }
 
         try {
@@ -306,6 +442,108 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * 将对象序列化后直接写入输出流, 不生成中间的 String 或 byte[], 写入后不关闭输出流; object 为 null 时不写入任何内容.
+     *
+     * @param out    out
+     * @param object object
+     * @since 2023.1.1
+     */
+    public static void writeTo(@NotNull OutputStream out, Object object) {
+        writeTo(getInstance(), out, object);
+    }
+
+    /**
+     * 根据自定义 mapper 将对象序列化后直接写入输出流, 写入后不关闭输出流; object 为 null 时不写入任何内容.
+     * 生成器使用 Jackson 回收的缓冲区, 每写满一个缓冲区向输出流写出一次.
+     *
+     * @param mapper mapper
+     * @param out    out
+     * @param object object
+     * @since 2023.1.1
+     */
+    public static void writeTo(@NotNull ObjectMapper mapper, @NotNull OutputStream out, Object object) {
+        if (object == null) {
+            return;
+        }
+        try {
+            writer(mapper).writeValue(out, object);
+        } catch (IOException e) {
+            throw ExceptionUtil.wrapRuntime(e);
+        }
+    }
+
+    /**
+     * 将对象序列化后直接写入 channel, 写入后不关闭 channel; object 为 null 时不写入任何内容.
+     *
+     * @param channel channel
+     * @param object  object
+     * @since 2023.1.1
+     */
+    public static void writeTo(@NotNull WritableByteChannel channel, Object object) {
+        writeTo(getInstance(), channel, object);
+    }
+
+    /**
+     * 根据自定义 mapper 将对象序列化后直接写入 channel, 写入后不关闭 channel; object 为 null 时不写入任何内容.
+     *
+     * @param mapper  mapper
+     * @param channel channel
+     * @param object  object
+     * @since 2023.1.1
+     */
+    public static void writeTo(@NotNull ObjectMapper mapper, @NotNull WritableByteChannel channel, Object object) {
+        writeTo(mapper, Channels.newOutputStream(channel), object);
+    }
+
+    /**
+     * 将对象序列化后从 buffer 的当前位置开始写入; object 为 null 时不写入任何内容.
+     *
+     * @param buffer buffer
+     * @param object object
+     * @return 写入的字节数
+     * @throws BufferOverflowException 剩余空间不足, 此时 buffer 的位置不变
+     * @since 2023.1.1
+     */
+    public static int writeTo(@NotNull ByteBuffer buffer, Object object) {
+        return writeTo(getInstance(), buffer, object);
+    }
+
+    /**
+     * 根据自定义 mapper 将对象序列化后从 buffer 的当前位置开始写入; object 为 null 时不写入任何内容.
+     *
+     * @param mapper mapper
+     * @param buffer buffer
+     * @param object object
+     * @return 写入的字节数
+     * @throws BufferOverflowException 剩余空间不足, 此时 buffer 的位置不变
+     * @since 2023.1.1
+     */
+    public static int writeTo(@NotNull ObjectMapper mapper, @NotNull ByteBuffer buffer, Object object) {
+        int start = buffer.position();
+        try {
+            writeTo(mapper, new ByteBufferBackedOutputStream(buffer), object);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * 写入时不关闭目标的 ObjectWriter, 共享的 mapper 使用缓存的实例
+     *
+     * @param mapper mapper
+     * @return the object writer
+     * @since 2023.1.1
+     */
+    private static ObjectWriter writer(@NotNull ObjectMapper mapper) {
+        if (mapper == JacksonHolder.INSTANCE) {
+            return JacksonHolder.WRITER;
+        }
+        return mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     /**
      * 将 json 字符串转成 JsonNode.
      *
@@ -1033,6 +1271,81 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * <p>Description: 读取超过上限时抛出异常的输入流, 用于 {@link #isJson(ObjectMapper, InputStream, int, long)} </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 22:00
+     * @since 2023.1.1
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        /** 剩余可读取的字节数 */
+        private long remaining;
+
+        /**
+         * Limited input stream
+         *
+         * @param in       in
+         * @param maxBytes max bytes
+         * @since 2023.1.1
+         */
+        private LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+        }
+
+        /**
+         * Read
+         *
+         * @return the int
+         * @throws IOException io exception
+         * @since 2023.1.1
+         */
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                this.consume(1);
+            }
+            return b;
+        }
+
+        /**
+         * Read
+         *
+         * @param b   b
+         * @param off off
+         * @param len len
+         * @return the int
+         * @throws IOException io exception
+         * @since 2023.1.1
+         */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                this.consume(n);
+            }
+            return n;
+        }
+
+        /**
+         * Consume
+         *
+         * @param n n
+         * @throws IOException 超过上限
+         * @since 2023.1.1
+         */
+        private void consume(int n) throws IOException {
+            this.remaining -= n;
+            if (this.remaining < 0) {
+                throw new IOException("JSON content exceeds the size limit");
+            }
+        }
+    }
+
     /**
      * <p>Description: 使用静态内部类实例化单例对象, 此 ObjectMapper 会在全局使用 </p>
      *
@@ -1046,6 +1359,8 @@ public class JsonUtils {
     private static class JacksonHolder {
         /** INSTANCE */
         private static final ObjectMapper INSTANCE;
+        /** INSTANCE 的 writer, 写入后不关闭目标 */
+        private static final ObjectWriter WRITER;
         /** CHINA */
         private static final Locale CHINA = Locale.CHINA;
 
@@ -1076,6 +1391,7 @@ public class JsonUtils {
             registerSubtypes(objectMapper);
             trimmer(objectMapper);
             INSTANCE = objectMapper;
+            WRITER = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         }
 
         /**
@@ -1095,6 +1411,9 @@ public class JsonUtils {
          * 全局注册抽象类/接口的子类, 避免每次手动处理反序列化问题:
          * 1. 在抽象类/接口类上添加 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
          * 2. 在子类或实现类上添加 @JsonTypeName(value = "标识")
+         * 优先加载编译期由 {@link JsonTypeNameIndexProcessor} 生成的索引; 按 classpath 根路径 (jar 或目录) 判断,
+         * 含有 {@link ConfigDefaultValue#BASE_PACKAGES} 但没有索引的根路径 (未启用注解处理器或旧版本构建的 jar) 仍然扫描.
+         * 设置了 {@link ConfigKey#JSON_SUBTYPES_SCAN} 时忽略索引, 扫描全部根路径.
          *
          * @param objectMapper object mapper
          * @since 1.6.0
@@ -1103,22 +1422,117 @@ public class JsonUtils {
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
 
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = JsonUtils.class.getClassLoader();
+            }
+            Collection<URL> roots = ClasspathHelper.forPackage(ConfigDefaultValue.BASE_PACKAGES, classLoader);
+            Set<Class<?>> subTypes;
+            String source;
+            if (Boolean.getBoolean(ConfigKey.JSON_SUBTYPES_SCAN)) {
+                subTypes = scanSubtypes(roots);
+                source = "classpath scan";
+            } else {
+                subTypes = loadIndexedSubtypes(classLoader);
+                source = "index";
+                Collection<URL> unindexed = unindexedRoots(roots, classLoader);
+                if (!unindexed.isEmpty()) {
+                    log.info("以下 classpath 路径包含 {} 但没有 @JsonTypeName 索引 ({}), 改为扫描: {}",
+                             ConfigDefaultValue.BASE_PACKAGES, JsonTypeNameIndexProcessor.INDEX_LOCATION, unindexed);
+                    subTypes.addAll(scanSubtypes(unindexed));
+                    source = "index + classpath scan";
+                }
+            }
+            if (log.isTraceEnabled()) {
+                subTypes.forEach(c -> log.trace("{}", c.getName()));
+            }
+            // 注册所有子类型
+            objectMapper.registerSubtypes(subTypes.toArray(new Class[0]));
+            stopWatch.stop();
+            log.debug("向 Jackson 注册抽象类子类耗时: {}, @JsonTypeName 标识类数量: {}, 来源: {}", stopWatch, subTypes.size(), source);
+        }
+
+        /**
+         * 加载 classpath 中所有 jar 的 {@link JsonTypeNameIndexProcessor#INDEX_LOCATION} 索引,
+         * 只保留 {@link ConfigDefaultValue#BASE_PACKAGES} 下的类, 与扫描的范围一致
+         *
+         * @param classLoader class loader
+         * @return the set
+         * @since 2023.1.1
+         */
+        @NotNull
+        private static Set<Class<?>> loadIndexedSubtypes(@NotNull ClassLoader classLoader) {
+            Set<Class<?>> subTypes = new LinkedHashSet<>();
+            Enumeration<URL> indexes;
+            try {
+                indexes = classLoader.getResources(JsonTypeNameIndexProcessor.INDEX_LOCATION);
+            } catch (IOException e) {
+                log.warn("读取 @JsonTypeName 索引失败, 改为扫描 classpath: {}", e.toString());
+                return subTypes;
+            }
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String className = line.trim();
+                        if (className.isEmpty() || className.startsWith("#") || !className.startsWith(ConfigDefaultValue.BASE_PACKAGES)) {
+                            continue;
+                        }
+                        try {
+                            subTypes.add(Class.forName(className, false, classLoader));
+                        } catch (ClassNotFoundException | LinkageError e) {
+                            log.warn("@JsonTypeName 索引 {} 中的类无法加载: {}", index, className);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.warn("读取 @JsonTypeName 索引失败: {}, {}", index, e.toString());
+                }
+            }
+            return subTypes;
+        }
+
+        /**
+         * 没有 {@link JsonTypeNameIndexProcessor#INDEX_LOCATION} 索引的根路径, 与索引所在的根路径按 URL 文本比较
+         *
+         * @param roots       含有 {@link ConfigDefaultValue#BASE_PACKAGES} 的根路径
+         * @param classLoader class loader
+         * @return the collection
+         * @since 2023.1.1
+         */
+        @NotNull
+        private static Collection<URL> unindexedRoots(@NotNull Collection<URL> roots, @NotNull ClassLoader classLoader) {
+            Set<String> indexed = new HashSet<>();
+            for (URL root : ClasspathHelper.forResource(JsonTypeNameIndexProcessor.INDEX_LOCATION, classLoader)) {
+                indexed.add(root.toExternalForm());
+            }
+            List<URL> unindexed = new ArrayList<>();
+            for (URL root : roots) {
+                if (!indexed.contains(root.toExternalForm())) {
+                    unindexed.add(root);
+                }
+            }
+            return unindexed;
+        }
+
+        /**
+         * 扫描指定根路径中 {@link ConfigDefaultValue#BASE_PACKAGES} 下的 {@link JsonTypeName} 类
+         *
+         * @param roots roots
+         * @return the set
+         * @since 2023.1.1
+         */
+        @NotNull
+        private static Set<Class<?>> scanSubtypes(@NotNull Collection<URL> roots) {
             ConfigurationBuilder config = new ConfigurationBuilder();
             config.filterInputsBy(new FilterBuilder().includePackage(ConfigDefaultValue.BASE_PACKAGES));
-            config.addUrls(ClasspathHelper.forPackage(ConfigDefaultValue.BASE_PACKAGES));
+            config.addUrls(roots);
             config.setScanners(new TypeAnnotationsScanner(), new SubTypesScanner(false));
             config.setExpandSuperTypes(false);
             Reflections reflections = new Reflections(config);
 
             // 扫描 JsonTypeName 注解, 注册所有子类
-            Set<Class<?>> subTypes = reflections.getTypesAnnotatedWith(JsonTypeName.class);
-            if (log.isTraceEnabled()) {
-                subTypes.forEach(c -> log.trace("{}", c.getName()));
-            }
-            // 注册所有子类型
-            objectMapper.registerSubtypes(subTypes.toArray(new Class[0]));
-            stopWatch.stop();
-            log.debug("向 Jackson 注册抽象类子类耗时: {}, @JsonTypeName 标识类数量: {}", stopWatch, subTypes.size());
+            return reflections.getTypesAnnotatedWith(JsonTypeName.class);
         }
     }
 
@@ -1,16 +1,16 @@
 package io.github.dong4j.coco.kernel.common.util;
 
-import java.util.Collections;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * <p>Description: 只会输出一次的日志 </p>
+ * <p>
+ * 每个 logger name 对应一个 {@link LogGuard#once(String)}, 记录的消息数量有上限;
+ * 需要限流或采样时直接使用 {@link LogGuard}.
  *
  * @author dong4j
  * @version 1.3.0
@@ -22,8 +22,10 @@ import lombok.extern.slf4j.Slf4j;
 @UtilityClass
 public class JustOnceLogger {
 
+    /** 每个 logger name 最多记录的消息数量 */
+    private static final int MAX_MESSAGES_PER_LOGGER = 4096;
     /** KNOWN_LOGS */
-    private static final Map<String, Set<String>> KNOWN_LOGS = new ConcurrentHashMap<>();
+    private static final Map<String, LogGuard> KNOWN_LOGS = new ConcurrentHashMap<>();
 
     /**
      * Info once
@@ -82,17 +84,12 @@ public class JustOnceLogger {
      * @since 1.5.0
      */
     private static boolean check(String loggerName, String message) {
-        if (!KNOWN_LOGS.containsKey(loggerName)) {
-            KNOWN_LOGS.put(loggerName, new ConcurrentSkipListSet<>(Collections.singleton(message)));
-        } else {
-
-            Set<String> messages = KNOWN_LOGS.get(loggerName);
-            if (messages.contains(message)) {
-                return true;
-            }
-            messages.add(message);
+        LogGuard guard = KNOWN_LOGS.get(loggerName);
+        if (guard == null) {
+            guard = KNOWN_LOGS.computeIfAbsent(loggerName,
+                                               name -> LogGuard.once(name, MAX_MESSAGES_PER_LOGGER).reportInterval(null));
         }
-        return false;
+        return !guard.tryAcquire(message);
     }
 
 }
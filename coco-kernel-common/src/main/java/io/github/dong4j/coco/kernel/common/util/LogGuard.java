@@ -0,0 +1,428 @@
+package io.github.dong4j.coco.kernel.common.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.dong4j.coco.kernel.common.support.ConcurrentFactoryMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>Description: 限流与采样的日志守卫, {@link JustOnceLogger} 的扩展 </p>
+ * <p>
+ * 按 key (通常是日志模板本身) 决定一条日志是否输出, 支持三种模式:
+ * <ul>
+ *     <li>{@link #once(String)}: 每个 key 只输出一次;</li>
+ *     <li>{@link #rateLimited(String, int, Duration)}: 令牌桶, 每个 key 每个周期最多输出 {@code permits} 条, 可以突发;</li>
+ *     <li>{@link #sampled(String, int)}: 每个 key 每 {@code N} 条输出 1 条 (第 1 条总是输出).</li>
+ * </ul>
+ * 记录的 key 数量有上限, 超出时按最近最少使用淘汰 (被淘汰的 key 会重新开始计数); 判断只有 map 读取与一次 CAS, 不加锁.
+ * 一条日志放行时会附带该 key 上次放行以来被抑制的条数, 守卫还会每隔 {@link #DEFAULT_REPORT_INTERVAL} 汇总输出一次抑制的总数.
+ * <pre>{@code
+ * private static final LogGuard GUARD = LogGuard.rateLimited("webhook", 5, Duration.ofMinutes(1));
+ *
+ * GUARD.warn(log, "webhook.signature", "签名校验失败: {}", appId);
+ * }</pre>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.18 21:00
+ * @since 2023.1.1
+ */
+@Slf4j
+public final class LogGuard {
+    /** 默认最多记录的 key 数量 */
+    public static final int DEFAULT_MAX_KEYS = 10_000;
+    /** 默认的抑制数量汇总周期 */
+    public static final Duration DEFAULT_REPORT_INTERVAL = Duration.ofMinutes(1);
+
+    /** 只输出一次 */
+    private static final int MODE_ONCE = 0;
+    /** 令牌桶 */
+    private static final int MODE_RATE_LIMITED = 1;
+    /** 采样 */
+    private static final int MODE_SAMPLED = 2;
+
+    /** Name */
+    private final String name;
+    /** Mode */
+    private final int mode;
+    /** 令牌桶: 每个令牌的间隔 (纳秒); 采样: 采样间隔 */
+    private final long rate;
+    /** 令牌桶: 周期 (纳秒) */
+    private final long intervalNanos;
+    /** 每个 key 的状态 */
+    private final ConcurrentFactoryMap.Bounded<String, KeyState> keys;
+    /** 被抑制的总数 */
+    private final LongAdder suppressed = new LongAdder();
+    /** 下次汇总的时间 */
+    private final AtomicLong nextReportNanos;
+    /** 上次汇总时的抑制总数 */
+    private volatile long reportedSuppressed;
+    /** 汇总周期 (纳秒), 0 表示不汇总 */
+    private volatile long reportIntervalNanos = DEFAULT_REPORT_INTERVAL.toNanos();
+
+    /**
+     * Log guard
+     *
+     * @param name          name
+     * @param mode          mode
+     * @param rate          rate
+     * @param intervalNanos interval nanos
+     * @param maxKeys       max keys
+     * @since 2023.1.1
+     */
+    private LogGuard(String name, int mode, long rate, long intervalNanos, int maxKeys) {
+        this.name = name;
+        this.mode = mode;
+        this.rate = rate;
+        this.intervalNanos = intervalNanos;
+        this.keys = ConcurrentFactoryMap.createBoundedMap(key -> new KeyState(mode == MODE_RATE_LIMITED ? System.nanoTime() : 0L),
+                                                          maxKeys);
+        this.nextReportNanos = new AtomicLong(System.nanoTime() + this.reportIntervalNanos);
+    }
+
+    /**
+     * 每个 key 只输出一次
+     *
+     * @param name 守卫名称, 用于汇总日志
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard once(@NotNull String name) {
+        return once(name, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * 每个 key 只输出一次
+     *
+     * @param name    守卫名称, 用于汇总日志
+     * @param maxKeys 最多记录的 key 数量
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard once(@NotNull String name, int maxKeys) {
+        return new LogGuard(name, MODE_ONCE, 0L, 0L, maxKeys);
+    }
+
+    /**
+     * 每个 key 每个周期最多输出 {@code permits} 条
+     *
+     * @param name     守卫名称, 用于汇总日志
+     * @param permits  每个周期的条数, 也是允许的突发条数
+     * @param interval 周期
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard rateLimited(@NotNull String name, int permits, @NotNull Duration interval) {
+        return rateLimited(name, permits, interval, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * 每个 key 每个周期最多输出 {@code permits} 条
+     *
+     * @param name     守卫名称, 用于汇总日志
+     * @param permits  每个周期的条数, 也是允许的突发条数
+     * @param interval 周期
+     * @param maxKeys  最多记录的 key 数量
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard rateLimited(@NotNull String name, int permits, @NotNull Duration interval, int maxKeys) {
+        if (permits <= 0 || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("permits and interval must be positive");
+        }
+        long intervalNanos = interval.toNanos();
+        return new LogGuard(name, MODE_RATE_LIMITED, Math.max(1L, intervalNanos / permits), intervalNanos, maxKeys);
+    }
+
+    /**
+     * 每个 key 每 {@code oneIn} 条输出 1 条
+     *
+     * @param name  守卫名称, 用于汇总日志
+     * @param oneIn 采样间隔
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard sampled(@NotNull String name, int oneIn) {
+        return sampled(name, oneIn, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * 每个 key 每 {@code oneIn} 条输出 1 条
+     *
+     * @param name    守卫名称, 用于汇总日志
+     * @param oneIn   采样间隔
+     * @param maxKeys 最多记录的 key 数量
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public static LogGuard sampled(@NotNull String name, int oneIn, int maxKeys) {
+        if (oneIn <= 0) {
+            throw new IllegalArgumentException("oneIn must be positive");
+        }
+        return new LogGuard(name, MODE_SAMPLED, oneIn, 0L, maxKeys);
+    }
+
+    /**
+     * 设置抑制数量的汇总周期, null 表示不汇总
+     *
+     * @param interval interval
+     * @return the log guard
+     * @since 2023.1.1
+     */
+    @NotNull
+    public LogGuard reportInterval(@Nullable Duration interval) {
+        this.reportIntervalNanos = interval == null ? 0L : interval.toNanos();
+        this.nextReportNanos.set(System.nanoTime() + this.reportIntervalNanos);
+        return this;
+    }
+
+    /**
+     * 是否放行
+     *
+     * @param key key
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    public boolean tryAcquire(@NotNull String key) {
+        return this.acquire(key) >= 0;
+    }
+
+    /**
+     * 尝试放行
+     *
+     * @param key key
+     * @return 被抑制时返回 -1, 放行时返回该 key 上次放行以来被抑制的条数
+     * @since 2023.1.1
+     */
+    public long acquire(@NotNull String key) {
+        KeyState state = this.keys.get(key);
+        boolean permitted;
+        if (this.mode == MODE_ONCE) {
+            permitted = state.value.get() == 0L && state.value.compareAndSet(0L, 1L);
+        } else if (this.mode == MODE_SAMPLED) {
+            permitted = state.value.getAndIncrement() % this.rate == 0L;
+        } else {
+            permitted = this.tryTake(state);
+        }
+        if (permitted) {
+            return state.suppressed.get() == 0L ? 0L : state.suppressed.getAndSet(0L);
+        }
+        state.suppressed.incrementAndGet();
+        this.suppressed.increment();
+        this.maybeReport();
+        return -1L;
+    }
+
+    /**
+     * 令牌桶 (GCRA): value 为理论到达时间, 超前当前时间不超过一个周期时放行
+     *
+     * @param state state
+     * @return the boolean
+     * @since 2023.1.1
+     */
+    private boolean tryTake(KeyState state) {
+        long now = System.nanoTime();
+        for (; ; ) {
+            long tat = state.value.get();
+            long next = (tat - now > 0 ? tat : now) + this.rate;
+            if (next - now > this.intervalNanos) {
+                return false;
+            }
+            if (state.value.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Info
+     *
+     * @param logger logger
+     * @param key    key
+     * @param format format
+     * @param args   args
+     * @since 2023.1.1
+     */
+    public void info(@NotNull Logger logger, @NotNull String key, String format, Object... args) {
+        if (logger.isInfoEnabled()) {
+            long suppressedCount = this.acquire(key);
+            if (suppressedCount >= 0) {
+                logger.info(withSuppressed(format, suppressedCount), withSuppressed(args, suppressedCount));
+            }
+        }
+    }
+
+    /**
+     * Warn
+     *
+     * @param logger logger
+     * @param key    key
+     * @param format format
+     * @param args   args
+     * @since 2023.1.1
+     */
+    public void warn(@NotNull Logger logger, @NotNull String key, String format, Object... args) {
+        if (logger.isWarnEnabled()) {
+            long suppressedCount = this.acquire(key);
+            if (suppressedCount >= 0) {
+                logger.warn(withSuppressed(format, suppressedCount), withSuppressed(args, suppressedCount));
+            }
+        }
+    }
+
+    /**
+     * Error
+     *
+     * @param logger logger
+     * @param key    key
+     * @param format format
+     * @param args   args
+     * @since 2023.1.1
+     */
+    public void error(@NotNull Logger logger, @NotNull String key, String format, Object... args) {
+        if (logger.isErrorEnabled()) {
+            long suppressedCount = this.acquire(key);
+            if (suppressedCount >= 0) {
+                logger.error(withSuppressed(format, suppressedCount), withSuppressed(args, suppressedCount));
+            }
+        }
+    }
+
+    /**
+     * 被抑制的总数
+     *
+     * @return the long
+     * @since 2023.1.1
+     */
+    public long suppressedCount() {
+        return this.suppressed.sum();
+    }
+
+    /**
+     * 当前记录的 key 数量
+     *
+     * @return the int
+     * @since 2023.1.1
+     */
+    public int keyCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Name
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * 到达汇总时间时由抢到 CAS 的线程输出上个周期的抑制数量
+     *
+     * @since 2023.1.1
+     */
+    private void maybeReport() {
+        long interval = this.reportIntervalNanos;
+        if (interval == 0L) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = this.nextReportNanos.get();
+        if (now - next >= 0 && this.nextReportNanos.compareAndSet(next, now + interval)) {
+            long total = this.suppressed.sum();
+            long count = total - this.reportedSuppressed;
+            this.reportedSuppressed = total;
+            if (count > 0) {
+                log.info("LogGuard '{}' suppressed {} messages in the last {} s, tracking {} keys",
+                         this.name, count, Duration.ofNanos(interval).getSeconds(), this.keys.size());
+            }
+        }
+    }
+
+    /**
+     * 有被抑制的日志时在模板末尾追加抑制数量
+     *
+     * @param format          format
+     * @param suppressedCount suppressed count
+     * @return the string
+     * @since 2023.1.1
+     */
+    private static String withSuppressed(String format, long suppressedCount) {
+        return suppressedCount == 0L ? format : format + " [{} similar messages suppressed]";
+    }
+
+    /**
+     * 有被抑制的日志时追加抑制数量参数, 最后一个参数为异常时保持其位置
+     *
+     * @param args            args
+     * @param suppressedCount suppressed count
+     * @return the object [ ]
+     * @since 2023.1.1
+     */
+    private static Object[] withSuppressed(Object[] args, long suppressedCount) {
+        if (suppressedCount == 0L) {
+            return args;
+        }
+        Object[] result = Arrays.copyOf(args, args.length + 1);
+        if (args.length > 0 && args[args.length - 1] instanceof Throwable) {
+            result[args.length - 1] = suppressedCount;
+            result[args.length] = args[args.length - 1];
+        } else {
+            result[args.length] = suppressedCount;
+        }
+        return result;
+    }
+
+    /**
+     * To string
+     *
+     * @return the string
+     * @since 2023.1.1
+     */
+    @Override
+    public String toString() {
+        return "LogGuard{name=" + this.name + ", keys=" + this.keyCount() + ", suppressed=" + this.suppressedCount() + '}';
+    }
+
+    /**
+     * <p>Description: 每个 key 的状态 </p>
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.18 21:00
+     * @since 2023.1.1
+     */
+    private static final class KeyState {
+        /** 只输出一次: 是否已输出; 令牌桶: 理论到达时间; 采样: 计数 */
+        private final AtomicLong value;
+        /** 上次放行以来被抑制的条数 */
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * Key state
+         *
+         * @param initialValue initial value
+         * @since 2023.1.1
+         */
+        private KeyState(long initialValue) {
+            this.value = new AtomicLong(initialValue);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package io.github.dong4j.coco.kernel.notify;
 
 import java.util.concurrent.CompletableFuture;
 
+import io.github.dong4j.coco.kernel.common.support.KernelExecutors;
+
 /**
  * <p>Description: </p>
  *
@@ -25,14 +27,14 @@ public interface Notify<T extends Message<?>> {
     T notify(T content);
 
     /**
-     * 异步通知
+     * 异步通知, 在内核共享的 I/O 线程池 ({@link KernelExecutors#io()}) 中执行, Java 21 上为虚拟线程
      *
      * @param content 发送内容
      * @return the future
      * @since 1.4.0
      */
     default CompletableFuture<T> asyncNotify(T content) {
-        return CompletableFuture.supplyAsync(() -> this.notify(content));
+        return CompletableFuture.supplyAsync(() -> this.notify(content), KernelExecutors.io());
     }
 
 }